@@ -2,16 +2,29 @@ package com.vallerinsmp.vitems;
 
 import com.vallerinsmp.vitems.command.VItemsCommand;
 import com.vallerinsmp.vitems.listener.BlockBreakListener;
+import com.vallerinsmp.vitems.listener.RegionChangeListener;
+import com.vallerinsmp.vitems.manager.BreakScheduler;
 import com.vallerinsmp.vitems.manager.ConfigManager;
 import com.vallerinsmp.vitems.manager.CooldownManager;
+import com.vallerinsmp.vitems.manager.CooldownSnapshot;
+import com.vallerinsmp.vitems.manager.CooldownStore;
+import com.vallerinsmp.vitems.manager.DeliveryManager;
+import com.vallerinsmp.vitems.manager.DropSpawner;
+import com.vallerinsmp.vitems.manager.FeedbackThrottle;
+import com.vallerinsmp.vitems.manager.HeldToolCache;
 import com.vallerinsmp.vitems.manager.ItemManager;
 import com.vallerinsmp.vitems.manager.ItemUpdateManager;
+import com.vallerinsmp.vitems.manager.LocalCooldownStore;
+import com.vallerinsmp.vitems.manager.SharedFileCooldownStore;
+import com.vallerinsmp.vitems.util.ItemType;
 import com.vallerinsmp.vitems.util.WorldGuardHook;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,8 +48,14 @@ public final class VItems extends JavaPlugin {
     // Managers
     private ConfigManager configManager;
     private CooldownManager cooldownManager;
+    private CooldownSnapshot cooldownSnapshot;
     private ItemManager itemManager;
     private ItemUpdateManager itemUpdateManager;
+    private BreakScheduler breakScheduler;
+    private HeldToolCache heldToolCache;
+    private FeedbackThrottle feedbackThrottle;
+    private DeliveryManager deliveryManager;
+    private DropSpawner dropSpawner;
 
     // Listeners
     private BlockBreakListener blockBreakListener;
@@ -51,13 +70,30 @@ public final class VItems extends JavaPlugin {
 
         // Initialize managers
         this.configManager = new ConfigManager(this);
-        this.cooldownManager = new CooldownManager();
+        this.cooldownManager = new CooldownManager(createCooldownStore());
+        this.cooldownSnapshot = new CooldownSnapshot(this, cooldownManager);
+        cooldownSnapshot.load();
         this.itemManager = new ItemManager(this);
         this.itemUpdateManager = new ItemUpdateManager(this);
+        this.breakScheduler = new BreakScheduler(this);
+        this.heldToolCache = new HeldToolCache(this);
+        this.feedbackThrottle = new FeedbackThrottle(this);
+        this.deliveryManager = new DeliveryManager(this);
+        deliveryManager.load();
+        this.dropSpawner = new DropSpawner(this);
 
         // Register listeners
+        getServer().getPluginManager().registerEvents(cooldownManager, this);
+        getServer().getPluginManager().registerEvents(heldToolCache, this);
+        getServer().getPluginManager().registerEvents(feedbackThrottle, this);
+        getServer().getPluginManager().registerEvents(itemUpdateManager, this);
+        getServer().getPluginManager().registerEvents(deliveryManager, this);
         this.blockBreakListener = new BlockBreakListener(this);
         getServer().getPluginManager().registerEvents(blockBreakListener, this);
+        if (WorldGuardHook.isEnabled()) {
+            // Keep the WorldGuard section index in sync with region changes
+            getServer().getPluginManager().registerEvents(new RegionChangeListener(this), this);
+        }
 
         // Register commands
         PluginCommand vitemsCmd = getCommand("vitems");
@@ -67,12 +103,21 @@ public final class VItems extends JavaPlugin {
             vitemsCmd.setTabCompleter(commandExecutor);
         }
 
-        // Start cooldown cleanup task (runs every 30 seconds)
+        // Start the shared break scheduler (runs every tick)
+        activeTasks.add(breakScheduler.start());
+
+        // Advance the cooldown timing wheel (runs every second, only touches expiring entries)
         BukkitTask cleanupTask = Bukkit.getScheduler().runTaskTimer(this, () -> {
             cooldownManager.cleanup();
-        }, 600L, 600L); // 30 seconds in ticks
+        }, 20L, 20L);
         activeTasks.add(cleanupTask);
 
+        // Snapshot cooldowns to disk so restarts do not reset them
+        activeTasks.add(cooldownSnapshot.start());
+
+        // Deliver /vitems give jobs under a per-tick budget
+        activeTasks.add(deliveryManager.start());
+
         // Log startup
         getLogger().info("vItems has been enabled!");
         getLogger().info("Author: mtynnn | Organization: ValerinSMP");
@@ -92,13 +137,24 @@ public final class VItems extends JavaPlugin {
         activeTasks.clear();
 
         // Cancel any active veinminer/tree capitator animations
-        if (blockBreakListener != null) {
-            blockBreakListener.getVeinminerHandler().getActiveVeinminers().clear();
-            blockBreakListener.getTreeCapitatorHandler().getActiveCapitators().clear();
+        if (breakScheduler != null) {
+            breakScheduler.cancelAll();
+        }
+
+        // Spawn drops still waiting for their delay
+        if (dropSpawner != null) {
+            dropSpawner.flushAll();
         }
 
-        // Clear all cooldowns
+        // Keep undelivered items for the next start
+        if (deliveryManager != null) {
+            deliveryManager.saveNow();
+        }
+
+        // Save and flush cooldowns, then clear them
         if (cooldownManager != null) {
+            cooldownSnapshot.saveNow();
+            cooldownManager.close();
             cooldownManager.clearAll();
         }
 
@@ -108,6 +164,37 @@ public final class VItems extends JavaPlugin {
         getLogger().info("vItems has been disabled!");
     }
 
+    /**
+     * Create the cooldown backend from settings.cooldown-store
+     * Falls back to the local store if the shared one cannot be opened
+     */
+    private CooldownStore createCooldownStore() {
+        String type = configManager.getString("settings.cooldown-store.type", "local");
+        if (!type.equalsIgnoreCase("shared-file")) {
+            return new LocalCooldownStore();
+        }
+
+        String path = configManager.getString("settings.cooldown-store.shared-file.path", "shared-cooldowns.dat");
+        int slots = configManager.getInt("settings.cooldown-store.shared-file.slots", 65536);
+        if (slots < 1024 || slots > SharedFileCooldownStore.MAX_SLOTS) {
+            int clamped = Math.max(1024, Math.min(SharedFileCooldownStore.MAX_SLOTS, slots));
+            getLogger().warning("settings.cooldown-store.shared-file.slots must be between 1024 and "
+                    + SharedFileCooldownStore.MAX_SLOTS + ", using " + clamped);
+            slots = clamped;
+        }
+        long flushTicks = Math.max(1, configManager.getInt("settings.cooldown-store.shared-file.flush-interval-ticks", 5));
+        try {
+            Path file = getDataFolder().toPath().resolve(path);
+            SharedFileCooldownStore store = new SharedFileCooldownStore(this, file, slots,
+                    ItemType.values().length, flushTicks);
+            getLogger().info("Sharing cooldowns through " + file);
+            return store;
+        } catch (IOException | RuntimeException e) {
+            getLogger().severe("Could not open shared cooldown file, using local cooldowns: " + e.getMessage());
+            return new LocalCooldownStore();
+        }
+    }
+
     // Getter methods for managers
     public ConfigManager getConfigManager() {
         return configManager;
@@ -124,4 +211,24 @@ public final class VItems extends JavaPlugin {
     public ItemUpdateManager getItemUpdateManager() {
         return itemUpdateManager;
     }
+
+    public HeldToolCache getHeldToolCache() {
+        return heldToolCache;
+    }
+
+    public FeedbackThrottle getFeedbackThrottle() {
+        return feedbackThrottle;
+    }
+
+    public DeliveryManager getDeliveryManager() {
+        return deliveryManager;
+    }
+
+    public DropSpawner getDropSpawner() {
+        return dropSpawner;
+    }
+
+    public BreakScheduler getBreakScheduler() {
+        return breakScheduler;
+    }
 }
@@ -1,8 +1,12 @@
 package com.vallerinsmp.vitems.command;
 
 import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.manager.BreakScheduler;
 import com.vallerinsmp.vitems.util.ItemType;
+import com.vallerinsmp.vitems.util.WorldGuardHook;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -11,10 +15,17 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +33,8 @@ import java.util.stream.Collectors;
  */
 public class VItemsCommand implements CommandExecutor, TabCompleter {
 
+    private static final int MAX_GIVE_AMOUNT = 64;
+
     private final VItems plugin;
 
     public VItemsCommand(VItems plugin) {
@@ -49,6 +62,9 @@ public class VItemsCommand implements CommandExecutor, TabCompleter {
             case "list" -> {
                 return handleList(sender);
             }
+            case "status" -> {
+                return handleStatus(sender);
+            }
             default -> {
                 sender.sendMessage(plugin.getConfigManager().getMessage("command.usage"));
                 return true;
@@ -57,7 +73,8 @@ public class VItemsCommand implements CommandExecutor, TabCompleter {
     }
 
     /**
-     * Handle /vitems give <player> <item>
+     * Handle /vitems give <player|@a|perm:node|file:list> <item> [amount]
+     * Delivery is spread across ticks by the DeliveryManager
      */
     private boolean handleGive(CommandSender sender, String[] args) {
         if (args.length < 3) {
@@ -65,13 +82,6 @@ public class VItemsCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        // Get player
-        Player target = Bukkit.getPlayer(args[1]);
-        if (target == null) {
-            sender.sendMessage(plugin.getConfigManager().getMessage("command.player-not-found"));
-            return true;
-        }
-
         // Get item type
         ItemType itemType = ItemType.fromConfigKey(args[2]);
         if (itemType == null) {
@@ -79,25 +89,126 @@ public class VItemsCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        // Give item
-        plugin.getItemManager().giveItem(target, itemType);
+        // Get amount
+        int amount = 1;
+        if (args.length >= 4) {
+            try {
+                amount = Integer.parseInt(args[3]);
+            } catch (NumberFormatException ignored) {
+                amount = 0;
+            }
+            if (amount < 1 || amount > MAX_GIVE_AMOUNT) {
+                sender.sendMessage(plugin.getConfigManager().getMessage("command.invalid-amount",
+                        Map.of("%max%", String.valueOf(MAX_GIVE_AMOUNT))));
+                return true;
+            }
+        }
 
-        // Send messages
-        Map<String, String> placeholders = Map.of(
-                "%item%", itemType.getConfigKey(),
-                "%player%", target.getName());
-        sender.sendMessage(plugin.getConfigManager().getMessage("command.item-given", placeholders));
-        target.sendMessage(plugin.getConfigManager().getMessage("command.item-received",
-                Map.of("%item%", itemType.getConfigKey())));
+        // Resolve recipients
+        List<UUID> recipients = resolveTargets(sender, args[1]);
+        if (recipients == null) {
+            return true;
+        }
+        if (recipients.isEmpty()) {
+            sender.sendMessage(plugin.getConfigManager().getMessage("command.player-not-found"));
+            return true;
+        }
+
+        if (recipients.size() > 1) {
+            sender.sendMessage(plugin.getConfigManager().getMessage("command.give-started", Map.of(
+                    "%item%", itemType.getConfigKey(),
+                    "%amount%", String.valueOf(amount),
+                    "%players%", String.valueOf(recipients.size()))));
+        }
+        plugin.getDeliveryManager().submit(sender, recipients, itemType, amount);
 
         return true;
     }
 
+    /**
+     * Resolve a give target into player UUIDs
+     * Returns null if an error message was already sent
+     */
+    private List<UUID> resolveTargets(CommandSender sender, String target) {
+        List<UUID> recipients = new ArrayList<>();
+
+        if (target.equalsIgnoreCase("@a")) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                recipients.add(player.getUniqueId());
+            }
+        } else if (target.toLowerCase().startsWith("perm:")) {
+            String permission = target.substring(5);
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                if (player.hasPermission(permission)) {
+                    recipients.add(player.getUniqueId());
+                }
+            }
+        } else if (target.toLowerCase().startsWith("file:")) {
+            String name = target.substring(5);
+            File file = new File(new File(plugin.getDataFolder(), "lists"), name + ".txt");
+            if (name.contains("/") || name.contains("\\") || name.contains("..") || !file.isFile()) {
+                sender.sendMessage(plugin.getConfigManager().getMessage("command.list-not-found",
+                        Map.of("%list%", name)));
+                return null;
+            }
+
+            try {
+                Set<UUID> unique = new LinkedHashSet<>();
+                for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                    UUID playerId = resolvePlayer(line.trim(), true);
+                    if (playerId != null) {
+                        unique.add(playerId);
+                    }
+                }
+                recipients.addAll(unique);
+            } catch (IOException e) {
+                sender.sendMessage(plugin.getConfigManager().getMessage("command.list-not-found",
+                        Map.of("%list%", name)));
+                return null;
+            }
+        } else {
+            UUID playerId = resolvePlayer(target, false);
+            if (playerId != null) {
+                recipients.add(playerId);
+            }
+        }
+
+        return recipients;
+    }
+
+    /**
+     * Resolve an online name, a known offline name or a UUID
+     *
+     * @param exact match online names exactly (lists) instead of by prefix (single target, as before)
+     */
+    private UUID resolvePlayer(String value, boolean exact) {
+        if (value.isEmpty() || value.startsWith("#")) {
+            return null;
+        }
+
+        Player online = exact ? Bukkit.getPlayerExact(value) : Bukkit.getPlayer(value);
+        if (online != null) {
+            return online.getUniqueId();
+        }
+
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ignored) {
+            // Not a UUID, try a known offline player
+        }
+
+        OfflinePlayer offline = Bukkit.getOfflinePlayerIfCached(value);
+        return offline != null ? offline.getUniqueId() : null;
+    }
+
     /**
      * Handle /vitems reload
      */
     private boolean handleReload(CommandSender sender) {
         plugin.getConfigManager().reload();
+        plugin.getFeedbackThrottle().reload();
+        plugin.getBreakScheduler().reload();
+        plugin.getDeliveryManager().reload();
         plugin.getItemUpdateManager().updateAllItems();
 
         sender.sendMessage(plugin.getConfigManager().getMessage("general.config-reloaded"));
@@ -114,15 +225,34 @@ public class VItemsCommand implements CommandExecutor, TabCompleter {
             String namePath = "items." + type.getConfigKey() + ".name";
             String name = plugin.getConfigManager().getRawMessage(namePath);
 
-            Map<String, String> placeholders = Map.of(
-                    "%item%", type.getConfigKey(),
-                    "%description%", name);
-            sender.sendMessage(plugin.getConfigManager().getMessage("command.list-item", placeholders));
+            Map<String, Component> placeholders = Map.of(
+                    "%item%", Component.text(type.getConfigKey()),
+                    "%description%", plugin.getConfigManager().parse(name));
+            sender.sendMessage(plugin.getConfigManager().getRichMessage("command.list-item", placeholders));
         }
 
         return true;
     }
 
+    /**
+     * Handle /vitems status
+     */
+    private boolean handleStatus(CommandSender sender) {
+        BreakScheduler scheduler = plugin.getBreakScheduler();
+        Map<String, String> placeholders = Map.of(
+                "%operations%", String.valueOf(scheduler.getQueueDepth()),
+                "%veinminers%", String.valueOf(scheduler.getActivePlayers(ItemType.VEINMINER).size()),
+                "%capitators%", String.valueOf(scheduler.getActivePlayers(ItemType.TREE_CAPITATOR).size()));
+        sender.sendMessage(plugin.getConfigManager().getMessage("command.status-scheduler", placeholders));
+
+        if (WorldGuardHook.isEnabled()) {
+            sender.sendMessage(plugin.getConfigManager().getMessage("command.status-worldguard", Map.of(
+                    "%hits%", String.valueOf(WorldGuardHook.getIndexHits()),
+                    "%misses%", String.valueOf(WorldGuardHook.getIndexMisses()))));
+        }
+        return true;
+    }
+
     @Override
     public @Nullable List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command,
             @NotNull String label, @NotNull String[] args) {
@@ -130,9 +260,10 @@ public class VItemsCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 1) {
             // Subcommands
-            completions.addAll(Arrays.asList("give", "reload", "list"));
+            completions.addAll(Arrays.asList("give", "reload", "list", "status"));
         } else if (args.length == 2 && args[0].equalsIgnoreCase("give")) {
-            // Player names
+            // Player names and selectors
+            completions.addAll(Arrays.asList("@a", "perm:", "file:"));
             completions.addAll(Bukkit.getOnlinePlayers().stream()
                     .map(Player::getName)
                     .collect(Collectors.toList()));
@@ -141,6 +272,9 @@ public class VItemsCommand implements CommandExecutor, TabCompleter {
             completions.addAll(Arrays.stream(ItemType.values())
                     .map(ItemType::getConfigKey)
                     .collect(Collectors.toList()));
+        } else if (args.length == 4 && args[0].equalsIgnoreCase("give")) {
+            // Amounts
+            completions.addAll(Arrays.asList("1", "8", "16", "64"));
         }
 
         // Filter by current input
@@ -0,0 +1,100 @@
+package com.vallerinsmp.vitems.handler;
+
+import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.util.AreaShape;
+import com.vallerinsmp.vitems.util.BlockExperience;
+import com.vallerinsmp.vitems.util.BreakBatch;
+import com.vallerinsmp.vitems.util.DropAccumulator;
+import com.vallerinsmp.vitems.util.ItemType;
+import com.vallerinsmp.vitems.util.PackedPos;
+import com.vallerinsmp.vitems.util.WorldGuardHook;
+import org.bukkit.GameMode;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.BitSet;
+
+/**
+ * Base handler for tools that instantly break an area around the clicked block
+ * The area comes from the tool's configured shape (tools.<tool>.shape)
+ */
+public abstract class AreaToolHandler extends ToolHandler {
+
+    // Reused position buffer, only touched on the main thread
+    private long[] positions = new long[0];
+
+    public AreaToolHandler(VItems plugin, ItemType itemType) {
+        super(plugin, itemType);
+    }
+
+    @Override
+    public void handleBlockBreak(Player player, Block centerBlock, ItemStack item,
+            org.bukkit.block.BlockFace clickedFace) {
+        if (!canUse(player, centerBlock)) {
+            return;
+        }
+
+        // Get offsets to break based on clicked face
+        AreaShape shape = getSettings().shape();
+        int[] offsets = shape.offsets(clickedFace);
+        int count = Math.min(offsets.length / 3, getMaxBlocks());
+
+        World world = centerBlock.getWorld();
+        int centerX = centerBlock.getX();
+        int centerY = centerBlock.getY();
+        int centerZ = centerBlock.getZ();
+
+        // Check WorldGuard once for the whole area
+        if (positions.length < count) {
+            positions = new long[count];
+        }
+        for (int i = 0; i < count; i++) {
+            positions[i] = PackedPos.pack(centerX + offsets[i * 3], centerY + offsets[i * 3 + 1],
+                    centerZ + offsets[i * 3 + 2]);
+        }
+        BitSet allowed = WorldGuardHook.canBreakAll(player, world, positions, count);
+
+        int blocksBroken = 0;
+        BreakBatch batch = new BreakBatch(world, getSettings().removalMode(), getSettings().breakParticles());
+        DropAccumulator drops = new DropAccumulator();
+        boolean isCreative = player.getGameMode() == GameMode.CREATIVE;
+        boolean silkTouch = item.containsEnchantment(Enchantment.SILK_TOUCH);
+        int experience = 0;
+
+        for (int i = 0; i < count; i++) {
+            // Skip blocks protected by WorldGuard
+            if (!allowed.get(i)) {
+                continue;
+            }
+
+            Block block = world.getBlockAt(centerX + offsets[i * 3], centerY + offsets[i * 3 + 1],
+                    centerZ + offsets[i * 3 + 2]);
+
+            // Skip blocks this tool does not affect
+            if (!isTarget(block.getType())) {
+                continue;
+            }
+
+            // Collect drops with enchantments, merged and delivered once per swing
+            if (!isCreative) {
+                drops.add(block.getDrops(item));
+                experience += BlockExperience.roll(block.getType(), silkTouch);
+            }
+
+            // Break block
+            batch.add(block);
+            blocksBroken++;
+        }
+        batch.flush();
+        deliverDrops(player, centerBlock, drops, collects(player));
+        deliverExperience(player, centerBlock, item, experience);
+
+        // Apply durability (1 per block broken)
+        if (!isCreative && blocksBroken > 0) {
+            applyDurability(item, blocksBroken);
+        }
+    }
+}
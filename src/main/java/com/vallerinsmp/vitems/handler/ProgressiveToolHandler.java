@@ -0,0 +1,274 @@
+package com.vallerinsmp.vitems.handler;
+
+import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.manager.BreakOperation;
+import com.vallerinsmp.vitems.manager.BreakScheduler;
+import com.vallerinsmp.vitems.util.AnimationMode;
+import com.vallerinsmp.vitems.util.BlockExperience;
+import com.vallerinsmp.vitems.util.BlockPlan;
+import com.vallerinsmp.vitems.util.BreakBatch;
+import com.vallerinsmp.vitems.util.DropAccumulator;
+import com.vallerinsmp.vitems.util.FloodFill;
+import com.vallerinsmp.vitems.util.ItemType;
+import com.vallerinsmp.vitems.util.SnapshotBlockAccess;
+import com.vallerinsmp.vitems.util.SoundAggregator;
+import com.vallerinsmp.vitems.util.ToolSettings;
+import com.vallerinsmp.vitems.util.WorldGuardHook;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Base handler for tools that break connected blocks progressively
+ * Discovery runs async on ChunkSnapshots, breaking runs on the BreakScheduler
+ */
+public abstract class ProgressiveToolHandler extends ToolHandler {
+
+    // Long operations spawn their merged drops along the way, after this many
+    // operation ticks or once this many stacks are waiting
+    private static final int DROP_FLUSH_TICKS = 20;
+    private static final int DROP_FLUSH_STACKS = 8;
+
+    public ProgressiveToolHandler(VItems plugin, ItemType itemType) {
+        super(plugin, itemType);
+    }
+
+    @Override
+    public void handleBlockBreak(Player player, Block startBlock, ItemStack item,
+            org.bukkit.block.BlockFace clickedFace) {
+        if (!canUse(player, startBlock)) {
+            return;
+        }
+
+        Material startType = startBlock.getType();
+        if (!accepts(startType)) {
+            return;
+        }
+
+        // Reserve the player's slot, fails if an operation is already active
+        if (!plugin.getBreakScheduler().reserve(player.getUniqueId(), itemType)) {
+            return;
+        }
+
+        // Apply cooldown immediately
+        applyCooldown(player);
+
+        int startX = startBlock.getX();
+        int startY = startBlock.getY();
+        int startZ = startBlock.getZ();
+        int maxBlocks = getMaxBlocks();
+
+        // Snapshot the start chunk now, the worker fetches the others only if the search reaches them
+        SnapshotBlockAccess access = new SnapshotBlockAccess(plugin, startBlock.getWorld());
+        access.preload(startX, startZ);
+
+        // Find connected blocks off the main thread, the reservation is released on every failure path
+        UUID playerId = player.getUniqueId();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            BlockPlan found;
+            try {
+                found = FloodFill.search(startX, startY, startZ, maxBlocks,
+                        (x, y, z) -> matches(startType, access.getType(x, y, z)));
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Block search failed for " + player.getName(), e);
+                found = null;
+            }
+
+            BlockPlan plan = found;
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (plan == null) {
+                        plugin.getBreakScheduler().release(playerId, itemType);
+                        return;
+                    }
+                    try {
+                        startBreaking(player, item, startBlock, plan, startType);
+                    } catch (RuntimeException e) {
+                        plugin.getBreakScheduler().release(playerId, itemType);
+                        throw e;
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Hand the discovered plan to the break scheduler (main thread)
+     */
+    private void startBreaking(Player player, ItemStack item, Block startBlock, BlockPlan plan, Material startType) {
+        BreakScheduler scheduler = plugin.getBreakScheduler();
+        if (!player.isOnline() || plan.isEmpty()) {
+            scheduler.release(player.getUniqueId(), itemType);
+            return;
+        }
+
+        ToolSettings settings = getSettings();
+        AnimationMode mode = settings.animationMode();
+        int delayTicks = mode == AnimationMode.FIXED ? settings.animationDelayTicks() : 1;
+
+        // Check WorldGuard once for the whole plan
+        BitSet allowed = WorldGuardHook.canBreakAll(player, startBlock.getWorld(), plan);
+
+        scheduler.submit(new ProgressiveBreak(player, item, startBlock, plan, allowed, startType, delayTicks,
+                mode, settings.minBlocksPerTick(), settings.maxBlocksPerTick()));
+    }
+
+    /**
+     * Check if this tool can start an operation on the given block type
+     */
+    protected boolean accepts(Material type) {
+        return isTarget(type);
+    }
+
+    /**
+     * Check if a block belongs to the same group as the start block
+     * Called from the async worker, must not touch the world
+     */
+    protected boolean matches(Material startType, Material type) {
+        return type == startType;
+    }
+
+    /**
+     * Get the sound played when a block is broken
+     */
+    protected Sound getBreakSound(Block block) {
+        return block.getBlockSoundGroup().getBreakSound();
+    }
+
+    /**
+     * Get a view of players with an active operation
+     */
+    public Set<UUID> getActivePlayers() {
+        return plugin.getBreakScheduler().getActivePlayers(itemType);
+    }
+
+    /**
+     * Breaks the blocks of a discovered plan, paced by its animation mode
+     */
+    private class ProgressiveBreak extends BreakOperation {
+
+        private final Player player;
+        private final ItemStack item;
+        private final Block startBlock;
+        private final World world;
+        private final BlockPlan plan;
+        private final BitSet allowed;
+        private final Material startType;
+        private final boolean isCreative;
+        private final boolean collect;
+        private final boolean silkTouch;
+        private final AnimationMode mode;
+        private final int minRate;
+        private final int maxRate;
+        private final BreakBatch batch;
+        private final SoundAggregator sounds;
+        private final DropAccumulator drops = new DropAccumulator();
+        private int index = 0;
+        private int experience = 0;
+        private int ticksSinceDrop = 0;
+
+        ProgressiveBreak(Player player, ItemStack item, Block startBlock, BlockPlan plan, BitSet allowed,
+                Material startType, int delayTicks, AnimationMode mode, int minRate, int maxRate) {
+            super(player.getUniqueId(), itemType, delayTicks);
+            this.mode = mode;
+            this.minRate = minRate;
+            this.maxRate = maxRate;
+            this.player = player;
+            this.item = item;
+            this.startBlock = startBlock;
+            this.world = startBlock.getWorld();
+            this.plan = plan;
+            this.allowed = allowed;
+            this.startType = startType;
+            this.isCreative = player.getGameMode() == GameMode.CREATIVE;
+            this.collect = collects(player);
+            this.silkTouch = item.containsEnchantment(Enchantment.SILK_TOUCH);
+            ToolSettings settings = getSettings();
+            this.batch = new BreakBatch(world, settings.removalMode(), settings.breakParticles());
+            this.sounds = new SoundAggregator(world, (float) settings.breakSoundVolume(),
+                    (float) settings.breakSoundMaxVolume());
+        }
+
+        @Override
+        protected int getQuota(double loadFactor) {
+            if (mode == AnimationMode.FIXED) {
+                return 1;
+            }
+
+            int rate = minRate + (int) Math.round((maxRate - minRate) * loadFactor);
+            if (mode == AnimationMode.WAVEFRONT && index < plan.size()) {
+                // Rest of the current depth layer, never above the load-scaled rate
+                return Math.min(rate, plan.layerEndOf(index) - index);
+            }
+            return rate;
+        }
+
+        @Override
+        protected boolean breakNext() {
+            while (index < plan.size() && player.isOnline()) {
+                // Skip blocks protected by WorldGuard
+                if (!allowed.get(index)) {
+                    index++;
+                    continue;
+                }
+
+                Block block = plan.getBlock(world, index);
+                index++;
+
+                // Snapshot may be stale, re-validate the live block
+                if (!matches(startType, block.getType())) {
+                    continue;
+                }
+
+                // Collect drops (with fortune/silk touch): added to the inventory every tick in
+                // collect mode, otherwise spawned merged every few ticks and when the operation ends
+                if (!isCreative) {
+                    drops.add(block.getDrops(item));
+                    experience += BlockExperience.roll(block.getType(), silkTouch);
+
+                    // Apply durability
+                    applyDurability(item, 1);
+                }
+
+                // Break sounds of the tick are merged and played in endTick
+                sounds.add(getBreakSound(block), block);
+
+                // Break block (bulk mode removes the tick's blocks together in endTick)
+                batch.add(block);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected void endTick() {
+            sounds.flush();
+            batch.flush();
+            if (collect) {
+                collectDrops(player, startBlock, drops);
+            } else if (++ticksSinceDrop >= DROP_FLUSH_TICKS || drops.size() >= DROP_FLUSH_STACKS) {
+                spawnDrops(player, startBlock, drops);
+                ticksSinceDrop = 0;
+            }
+        }
+
+        @Override
+        protected void onFinish() {
+            sounds.flush();
+            batch.flush();
+            deliverDrops(player, startBlock, drops, collect);
+            deliverExperience(player, startBlock, item, experience);
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package com.vallerinsmp.vitems.handler;
 
 import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.util.DropAccumulator;
+import com.vallerinsmp.vitems.util.DropLocation;
+import com.vallerinsmp.vitems.util.ExperienceMode;
 import com.vallerinsmp.vitems.util.ItemType;
+import com.vallerinsmp.vitems.util.ToolSettings;
 import com.vallerinsmp.vitems.util.WorldGuardHook;
+import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.ExperienceOrb;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
 import org.bukkit.inventory.meta.ItemMeta;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,6 +26,8 @@ import java.util.Map;
  */
 public abstract class ToolHandler {
 
+    private static final String COLLECT_PERMISSION = "vitems.collect";
+
     protected final VItems plugin;
     protected final ItemType itemType;
 
@@ -29,25 +41,23 @@ public abstract class ToolHandler {
      */
     public boolean canUse(Player player, Block block) {
         // Check if tool is enabled
-        String enabledPath = "tools." + itemType.getConfigKey() + ".enabled";
-        if (!plugin.getConfigManager().getBoolean(enabledPath, true)) {
-            Map<String, String> placeholders = Map.of();
-            player.sendMessage(plugin.getConfigManager().getMessage("tool.disabled", placeholders));
+        if (!getSettings().enabled()) {
+            plugin.getFeedbackThrottle().send(player, "tool.disabled");
             return false;
         }
 
         // Check cooldown
         if (hasCooldown() && plugin.getCooldownManager().hasCooldown(player, itemType)) {
-            double remaining = plugin.getCooldownManager().getRemainingCooldown(player, itemType);
-            Map<String, String> placeholders = Map.of("%time%", String.format("%.1f", remaining));
-            player.sendMessage(plugin.getConfigManager().getMessage("tool.cooldown", placeholders));
+            plugin.getFeedbackThrottle().send(player, "tool.cooldown", () -> {
+                double remaining = plugin.getCooldownManager().getRemainingCooldown(player, itemType);
+                return Map.of("%time%", String.format("%.1f", remaining));
+            });
             return false;
         }
 
         // Check WorldGuard
         if (!WorldGuardHook.canBreak(player, block)) {
-            Map<String, String> placeholders = Map.of();
-            player.sendMessage(plugin.getConfigManager().getMessage("tool.worldguard-protection", placeholders));
+            plugin.getFeedbackThrottle().send(player, "tool.worldguard-protection");
             return false;
         }
 
@@ -72,28 +82,154 @@ public abstract class ToolHandler {
         }
     }
 
+    /**
+     * Check if a player's drops go straight into their inventory
+     * (tools.<tool>.collect and the vitems.collect permission)
+     */
+    protected boolean collects(Player player) {
+        return getSettings().collect() && player.hasPermission(COLLECT_PERMISSION);
+    }
+
+    /**
+     * Hand the merged drops of an operation to the player or spawn them
+     *
+     * @param collect whether the player collects drops, see {@link #collects(Player)}
+     */
+    protected void deliverDrops(Player player, Block origin, DropAccumulator drops, boolean collect) {
+        if (collect) {
+            collectDrops(player, origin, drops);
+        } else {
+            spawnDrops(player, origin, drops);
+        }
+    }
+
+    /**
+     * Add the merged drops to the player's inventory in one call, dropping only the overflow
+     * Falls back to spawning them at the origin if the player went offline
+     */
+    protected void collectDrops(Player player, Block origin, DropAccumulator drops) {
+        if (drops.isEmpty()) {
+            return;
+        }
+        if (!player.isOnline()) {
+            spawnDrops(player, origin, drops);
+            return;
+        }
+
+        List<ItemStack> stacks = drops.drain();
+        Map<Integer, ItemStack> overflow = player.getInventory().addItem(stacks.toArray(new ItemStack[0]));
+        if (!overflow.isEmpty()) {
+            plugin.getDropSpawner().spawn(player.getLocation(), new ArrayList<>(overflow.values()), 0);
+        }
+    }
+
+    /**
+     * Spawn the merged drops of an operation at its drop location (tools.<tool>.drop-location)
+     *
+     * @param origin block the operation started from
+     */
+    protected void spawnDrops(Player player, Block origin, DropAccumulator drops) {
+        if (drops.isEmpty()) {
+            return;
+        }
+
+        plugin.getDropSpawner().spawn(getDropLocation(player, origin), drops.drain(),
+                getSettings().dropDelayTicks());
+    }
+
+    /**
+     * Hand out the experience of an operation (tools.<tool>.experience)
+     * PLAYER mode repairs the tool with mending in one pass and gives the rest
+     */
+    protected void deliverExperience(Player player, Block origin, ItemStack item, int experience) {
+        if (experience <= 0) {
+            return;
+        }
+
+        ExperienceMode mode = getSettings().experience();
+        if (mode == ExperienceMode.PLAYER && player.isOnline()) {
+            int remaining = applyMending(item, experience);
+            if (remaining > 0) {
+                player.giveExp(remaining);
+            }
+        } else if (mode != ExperienceMode.NONE) {
+            Location location = getDropLocation(player, origin);
+            if (location.getWorld() != null) {
+                // Centered so a block-located orb does not start on the block corner
+                if (location.equals(origin.getLocation())) {
+                    location.add(0.5, 0.5, 0.5);
+                }
+                location.getWorld().spawn(location, ExperienceOrb.class, orb -> orb.setExperience(experience));
+            }
+        }
+    }
+
+    /**
+     * Repair a mending tool with experience (2 durability per point)
+     *
+     * @return experience left after the repair
+     */
+    private int applyMending(ItemStack item, int experience) {
+        if (item.getAmount() == 0 || !item.containsEnchantment(Enchantment.MENDING)) {
+            return experience;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        if (!(meta instanceof Damageable damageable) || damageable.getDamage() == 0) {
+            return experience;
+        }
+
+        int repair = Math.min(damageable.getDamage(), experience * 2);
+        damageable.setDamage(damageable.getDamage() - repair);
+        item.setItemMeta(meta);
+        return experience - (repair + 1) / 2;
+    }
+
+    /**
+     * Get where the drops of an operation spawn (tools.<tool>.drop-location)
+     * Falls back to the origin block if the player is offline or in another world
+     */
+    private Location getDropLocation(Player player, Block origin) {
+        if (getSettings().dropLocation() == DropLocation.PLAYER && player.isOnline()
+                && player.getWorld().equals(origin.getWorld())) {
+            return player.getLocation();
+        }
+        return origin.getLocation();
+    }
+
     /**
      * Check if this tool has a cooldown
      */
     protected boolean hasCooldown() {
-        String cooldownPath = "tools." + itemType.getConfigKey() + ".has-cooldown";
-        return plugin.getConfigManager().getBoolean(cooldownPath, false);
+        return getSettings().hasCooldown();
     }
 
     /**
      * Get cooldown duration for this tool
      */
     protected double getCooldownDuration() {
-        String cooldownPath = "tools." + itemType.getConfigKey() + ".cooldown-seconds";
-        return plugin.getConfigManager().getDouble(cooldownPath, 0.0);
+        return getSettings().cooldownSeconds();
     }
 
     /**
      * Get max blocks for this tool
      */
     protected int getMaxBlocks() {
-        String maxBlocksPath = "tools." + itemType.getConfigKey() + ".max-blocks";
-        return plugin.getConfigManager().getInt(maxBlocksPath, 9);
+        return getSettings().maxBlocks();
+    }
+
+    /**
+     * Check if a block type is affected by this tool (tools.<tool>.materials)
+     */
+    protected boolean isTarget(Material material) {
+        return getSettings().materials().contains(material);
+    }
+
+    /**
+     * Get the compiled settings of this tool (swapped on reload)
+     */
+    protected ToolSettings getSettings() {
+        return plugin.getConfigManager().getToolSettings(itemType);
     }
 
     /**
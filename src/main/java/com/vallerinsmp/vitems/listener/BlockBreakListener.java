@@ -2,12 +2,21 @@ package com.vallerinsmp.vitems.listener;
 
 import com.vallerinsmp.vitems.VItems;
 import com.vallerinsmp.vitems.handler.*;
+import com.vallerinsmp.vitems.util.FaceTracker;
 import com.vallerinsmp.vitems.util.ItemType;
+import com.vallerinsmp.vitems.util.PackedPos;
+import org.bukkit.Bukkit;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockDamageEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -16,7 +25,11 @@ import org.bukkit.inventory.ItemStack;
  */
 public class BlockBreakListener implements Listener {
 
+    // How long a clicked-face sample stays valid (long enough to dig obsidian)
+    private static final int FACE_SAMPLE_MAX_AGE_TICKS = 600;
+
     private final VItems plugin;
+    private final FaceTracker faceTracker = new FaceTracker();
     private final Pickaxe3x3Handler pickaxe3x3Handler;
     private final Shovel3x3Handler shovel3x3Handler;
     private final VeinminerHandler veinminerHandler;
@@ -33,23 +46,19 @@ public class BlockBreakListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
-        ItemStack item = player.getInventory().getItemInMainHand();
 
-        // Check if item is a custom tool
-        ItemType itemType = plugin.getItemManager().getItemType(item);
+        // Check if the held item is a custom tool (cached per player)
+        ItemType itemType = plugin.getHeldToolCache().getHeldType(player);
         if (itemType == null) {
             return;
         }
+        ItemStack item = player.getInventory().getItemInMainHand();
 
         // Cancel the original event to handle it ourselves
         event.setCancelled(true);
 
-        // Get the block face that was clicked using raytracing
-        org.bukkit.block.BlockFace clickedFace = null;
-        var rayTraceResult = player.rayTraceBlocks(5.0);
-        if (rayTraceResult != null && rayTraceResult.getHitBlockFace() != null) {
-            clickedFace = rayTraceResult.getHitBlockFace();
-        }
+        // Get the block face that was clicked
+        BlockFace clickedFace = getClickedFace(player, event.getBlock());
 
         // Delegate to appropriate handler
         switch (itemType) {
@@ -60,6 +69,51 @@ public class BlockBreakListener implements Listener {
         }
     }
 
+    /**
+     * Track the face a player starts digging
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockDamage(BlockDamageEvent event) {
+        recordFace(event.getPlayer(), event.getBlock(), event.getBlockFace());
+    }
+
+    /**
+     * Track the face of left clicks (covers instant-break blocks)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        if (event.getAction() == Action.LEFT_CLICK_BLOCK && event.getClickedBlock() != null) {
+            recordFace(event.getPlayer(), event.getClickedBlock(), event.getBlockFace());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        faceTracker.remove(event.getPlayer().getEntityId());
+    }
+
+    private void recordFace(Player player, Block block, BlockFace face) {
+        faceTracker.record(player.getEntityId(), PackedPos.pack(block.getX(), block.getY(), block.getZ()),
+                face, Bukkit.getCurrentTick());
+    }
+
+    /**
+     * Get the clicked face from the tracker, raytracing only without a recent sample
+     */
+    private BlockFace getClickedFace(Player player, Block block) {
+        BlockFace face = faceTracker.get(player.getEntityId(), PackedPos.pack(block.getX(), block.getY(), block.getZ()),
+                Bukkit.getCurrentTick(), FACE_SAMPLE_MAX_AGE_TICKS);
+        if (face != null) {
+            return face;
+        }
+
+        var rayTraceResult = player.rayTraceBlocks(5.0);
+        if (rayTraceResult != null && rayTraceResult.getHitBlockFace() != null) {
+            return rayTraceResult.getHitBlockFace();
+        }
+        return null;
+    }
+
     /**
      * Get veinminer handler for cleanup
      */
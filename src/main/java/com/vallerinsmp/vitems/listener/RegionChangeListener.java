@@ -0,0 +1,64 @@
+package com.vallerinsmp.vitems.listener;
+
+import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.util.WorldGuardHook;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Invalidates the WorldGuard section indexes when regions may change
+ * WorldGuard fires no event for region edits, so its region commands are
+ * watched instead. Regions added or removed by other plugins are caught by
+ * the region count check in WorldGuardHook.
+ */
+public class RegionChangeListener implements Listener {
+
+    private static final Set<String> REGION_COMMANDS = Set.of("rg", "region", "regions", "wg", "worldguard");
+    // Some region commands (remove, load) finish asynchronously
+    private static final long ASYNC_COMMAND_TICKS = 40L;
+
+    private final VItems plugin;
+
+    public RegionChangeListener(VItems plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        handleCommand(event.getMessage().startsWith("/") ? event.getMessage().substring(1) : event.getMessage());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onServerCommand(ServerCommandEvent event) {
+        handleCommand(event.getCommand().startsWith("/") ? event.getCommand().substring(1) : event.getCommand());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        WorldGuardHook.invalidateIndex(event.getWorld());
+    }
+
+    private void handleCommand(String command) {
+        int space = command.indexOf(' ');
+        String label = (space < 0 ? command : command.substring(0, space)).toLowerCase(Locale.ROOT);
+        int namespace = label.indexOf(':');
+        if (namespace >= 0) {
+            label = label.substring(namespace + 1);
+        }
+        if (!REGION_COMMANDS.contains(label)) {
+            return;
+        }
+
+        // The command runs right after this event, the index is rebuilt on the next lookup
+        WorldGuardHook.invalidateIndexes();
+        Bukkit.getScheduler().runTaskLater(plugin, WorldGuardHook::invalidateIndexes, ASYNC_COMMAND_TICKS);
+    }
+}
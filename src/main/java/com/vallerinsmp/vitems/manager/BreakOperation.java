@@ -0,0 +1,65 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.util.ItemType;
+
+import java.util.UUID;
+
+/**
+ * A progressive multi-block break driven by the BreakScheduler
+ */
+public abstract class BreakOperation {
+
+    private final UUID playerId;
+    private final ItemType itemType;
+    private final int delayTicks;
+
+    // Scheduler state (main thread only)
+    long nextTick;
+    int quota;
+
+    protected BreakOperation(UUID playerId, ItemType itemType, int delayTicks) {
+        this.playerId = playerId;
+        this.itemType = itemType;
+        this.delayTicks = Math.max(1, delayTicks);
+    }
+
+    /**
+     * Break the next block of this operation
+     *
+     * @return false once there is nothing left to break
+     */
+    protected abstract boolean breakNext();
+
+    /**
+     * Number of blocks this operation may break in the current tick
+     *
+     * @param loadFactor 1.0 when the server is idle, 0.0 when it is overloaded
+     */
+    protected int getQuota(double loadFactor) {
+        return 1;
+    }
+
+    /**
+     * Called after every scheduler tick while the operation is queued
+     */
+    protected void endTick() {
+    }
+
+    /**
+     * Called once when the operation finishes or is cancelled
+     */
+    protected void onFinish() {
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public ItemType getItemType() {
+        return itemType;
+    }
+
+    public int getDelayTicks() {
+        return delayTicks;
+    }
+}
@@ -0,0 +1,190 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.util.ItemType;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Single tick-budgeted scheduler for all progressive break operations
+ * Operations are served round-robin, one block per turn, until every ready
+ * operation is served or the per-tick block/time budget runs out
+ * Operation quotas scale with the server's recent average tick time (MSPT)
+ */
+public class BreakScheduler {
+
+    private final VItems plugin;
+    private final ArrayDeque<BreakOperation> queue = new ArrayDeque<>();
+    private final Map<ItemType, Set<UUID>> activePlayers = new EnumMap<>(ItemType.class);
+    private BukkitTask task;
+    private long currentTick;
+
+    // settings.scheduler, read on reload
+    private int blockBudget;
+    private double millisBudget;
+    private double lowMspt;
+    private double highMspt;
+
+    public BreakScheduler(VItems plugin) {
+        this.plugin = plugin;
+        for (ItemType type : ItemType.values()) {
+            activePlayers.put(type, new HashSet<>());
+        }
+        reload();
+    }
+
+    /**
+     * Re-read settings.scheduler from config
+     */
+    public void reload() {
+        ConfigManager config = plugin.getConfigManager();
+        this.blockBudget = Math.max(1, config.getInt("settings.scheduler.max-blocks-per-tick", 64));
+        this.millisBudget = Math.max(0.1, config.getDouble("settings.scheduler.max-millis-per-tick", 5.0));
+        this.lowMspt = config.getDouble("settings.scheduler.adaptive-low-mspt", 30.0);
+        this.highMspt = config.getDouble("settings.scheduler.adaptive-high-mspt", 50.0);
+    }
+
+    /**
+     * Start ticking the scheduler
+     */
+    public BukkitTask start() {
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        return task;
+    }
+
+    /**
+     * Reserve a player slot for a tool before its operation is ready
+     *
+     * @return false if the player already has an active operation for this tool
+     */
+    public boolean reserve(UUID playerId, ItemType type) {
+        return activePlayers.get(type).add(playerId);
+    }
+
+    /**
+     * Release a reservation that never turned into an operation
+     */
+    public void release(UUID playerId, ItemType type) {
+        activePlayers.get(type).remove(playerId);
+    }
+
+    /**
+     * Queue an operation, its first block breaks on the next scheduler tick
+     */
+    public void submit(BreakOperation operation) {
+        activePlayers.get(operation.getItemType()).add(operation.getPlayerId());
+        operation.nextTick = currentTick + 1;
+        operation.quota = 0;
+        queue.addLast(operation);
+    }
+
+    /**
+     * Check if a player has an active operation for a tool
+     */
+    public boolean isActive(UUID playerId, ItemType type) {
+        return activePlayers.get(type).contains(playerId);
+    }
+
+    /**
+     * Get a read-only view of players with an active operation for a tool
+     */
+    public Set<UUID> getActivePlayers(ItemType type) {
+        return Collections.unmodifiableSet(activePlayers.get(type));
+    }
+
+    /**
+     * Number of queued operations
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Cancel every operation and reservation (PlugMan support)
+     */
+    public void cancelAll() {
+        while (!queue.isEmpty()) {
+            finish(queue.pollFirst());
+        }
+        activePlayers.values().forEach(Set::clear);
+        if (task != null && !task.isCancelled()) {
+            task.cancel();
+        }
+    }
+
+    private void tick() {
+        currentTick++;
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + (long) (millisBudget * 1_000_000L);
+
+        // Hand out this tick's quota to operations whose delay has elapsed
+        double loadFactor = getLoadFactor();
+        for (BreakOperation operation : queue) {
+            if (operation.nextTick <= currentTick) {
+                operation.quota = Math.max(1, operation.getQuota(loadFactor));
+                operation.nextTick = currentTick + operation.getDelayTicks();
+            }
+        }
+
+        // Round-robin one block per turn until budget or quotas run out
+        int broken = 0;
+        int idleTurns = 0;
+        while (!queue.isEmpty() && idleTurns < queue.size()
+                && broken < blockBudget && System.nanoTime() < deadline) {
+            BreakOperation operation = queue.pollFirst();
+
+            if (operation.quota <= 0) {
+                queue.addLast(operation);
+                idleTurns++;
+                continue;
+            }
+
+            operation.quota--;
+            idleTurns = 0;
+
+            if (operation.breakNext()) {
+                broken++;
+                queue.addLast(operation);
+            } else {
+                finish(operation);
+            }
+        }
+
+        // Let operations apply what they batched this tick
+        for (BreakOperation operation : queue) {
+            operation.endTick();
+        }
+    }
+
+    /**
+     * Map the server's average tick time to a 0..1 load factor
+     * 1.0 at or below adaptive-low-mspt, 0.0 at or above adaptive-high-mspt
+     */
+    private double getLoadFactor() {
+        double mspt = Bukkit.getAverageTickTime();
+
+        if (mspt <= lowMspt) {
+            return 1.0;
+        }
+        if (mspt >= highMspt || highMspt <= lowMspt) {
+            return 0.0;
+        }
+        return (highMspt - mspt) / (highMspt - lowMspt);
+    }
+
+    private void finish(BreakOperation operation) {
+        activePlayers.get(operation.getItemType()).remove(operation.getPlayerId());
+        operation.onFinish();
+    }
+}
@@ -1,15 +1,21 @@
 package com.vallerinsmp.vitems.manager;
 
 import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.util.ItemType;
+import com.vallerinsmp.vitems.util.MessageTemplate;
+import com.vallerinsmp.vitems.util.ToolSettings;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 /**
  * Manages plugin configuration and messages
@@ -20,12 +26,15 @@ public class ConfigManager {
     private FileConfiguration config;
     private FileConfiguration messages;
     private final MiniMessage miniMessage;
-    private final Map<String, String> messageCache;
+    // Templates must not be compacted, see MessageTemplate.compile
+    private final MiniMessage templateParser;
+    private volatile Map<String, MessageTemplate> messageTemplates = new HashMap<>();
+    private volatile Map<ItemType, ToolSettings> toolSettings = new EnumMap<>(ItemType.class);
 
     public ConfigManager(VItems plugin) {
         this.plugin = plugin;
         this.miniMessage = MiniMessage.miniMessage();
-        this.messageCache = new HashMap<>();
+        this.templateParser = MiniMessage.builder().postProcessor(UnaryOperator.identity()).build();
         reload();
     }
 
@@ -45,8 +54,50 @@ public class ConfigManager {
         File messagesFile = new File(plugin.getDataFolder(), "messages.yml");
         messages = YamlConfiguration.loadConfiguration(messagesFile);
 
-        // Clear message cache
-        messageCache.clear();
+        // Pre-parse every message
+        compileMessages();
+
+        // Compile per-tool settings
+        compileToolSettings();
+    }
+
+    /**
+     * Compile every tools.<tool> section and publish them together
+     * Invalid values are reported here and keep their previous (or default) value
+     */
+    private void compileToolSettings() {
+        Map<ItemType, ToolSettings> previous = toolSettings;
+        Map<ItemType, ToolSettings> compiled = new EnumMap<>(ItemType.class);
+        for (ItemType type : ItemType.values()) {
+            String path = "tools." + type.getConfigKey();
+            compiled.put(type, ToolSettings.compile(config.getConfigurationSection(path),
+                    previous.getOrDefault(type, ToolSettings.DEFAULTS),
+                    warning -> plugin.getLogger().warning(path + ": " + warning)));
+        }
+        toolSettings = compiled;
+    }
+
+    /**
+     * Parse every string in messages.yml into a template with the prefix inlined
+     */
+    private void compileMessages() {
+        String prefix = messages.getString("general.prefix", "");
+        Map<String, MessageTemplate> templates = new HashMap<>();
+        for (String path : messages.getKeys(true)) {
+            if (messages.isString(path)) {
+                templates.put(path, compileMessage(messages.getString(path), prefix));
+            }
+        }
+        messageTemplates = templates;
+    }
+
+    private MessageTemplate compileMessage(String raw, String prefix) {
+        try {
+            return MessageTemplate.compile(templateParser, raw.replace("%prefix%", prefix));
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Invalid message '" + raw + "': " + e.getMessage());
+            return MessageTemplate.compile(templateParser, templateParser.escapeTags(raw));
+        }
     }
 
     private void saveMessagesConfig() {
@@ -91,6 +142,13 @@ public class ConfigManager {
         return config.getBoolean(path, def);
     }
 
+    /**
+     * Get the compiled settings of a tool
+     */
+    public ToolSettings getToolSettings(ItemType type) {
+        return toolSettings.getOrDefault(type, ToolSettings.DEFAULTS);
+    }
+
     /**
      * Get raw message string from messages.yml
      */
@@ -100,22 +158,34 @@ public class ConfigManager {
 
     /**
      * Get formatted message as Component with placeholder replacement
+     * Placeholder values are inserted as plain text
      */
     public Component getMessage(String path, Map<String, String> placeholders) {
-        String message = messageCache.computeIfAbsent(path, this::getRawMessage);
-
-        // Replace prefix
-        String prefix = getRawMessage("general.prefix");
-        message = message.replace("%prefix%", prefix);
+        if (placeholders == null || placeholders.isEmpty()) {
+            return getTemplate(path).render(null);
+        }
 
-        // Replace custom placeholders
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                message = message.replace(entry.getKey(), entry.getValue());
-            }
+        Map<String, Component> values = new HashMap<>();
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            values.put(entry.getKey(), Component.text(entry.getValue()));
         }
+        return getTemplate(path).render(values);
+    }
 
-        return miniMessage.deserialize(message);
+    /**
+     * Get formatted message as Component with component placeholders
+     */
+    public Component getRichMessage(String path, Map<String, ? extends ComponentLike> placeholders) {
+        return getTemplate(path).render(placeholders);
+    }
+
+    private MessageTemplate getTemplate(String path) {
+        MessageTemplate template = messageTemplates.get(path);
+        if (template == null) {
+            // Unknown path, shown as-is (same as getRawMessage)
+            template = compileMessage(path, "");
+        }
+        return template;
     }
 
     /**
@@ -1,7 +1,16 @@
 package com.vallerinsmp.vitems.manager;
 
 import com.vallerinsmp.vitems.util.ItemType;
+import com.vallerinsmp.vitems.util.TimingWheel;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -10,68 +19,60 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages cooldowns for custom tools
+ *
+ * Each player has one long[] of expiry times indexed by ItemType ordinal,
+ * on a monotonic millisecond clock (0 = no cooldown). Expiries are also
+ * scheduled on a timing wheel so cleanup only touches entries that expire.
+ * Main thread only.
+ *
+ * The arrays act as a near-cache in front of a CooldownStore: checks never
+ * leave memory, new cooldowns are handed to the store (which batches its
+ * writes) and a player's stored cooldowns are loaded during async pre-login.
  */
-public class CooldownManager {
+public class CooldownManager implements Listener {
 
-    private final Map<UUID, Map<ItemType, Long>> cooldowns;
+    private static final int TYPES = ItemType.values().length;
+    private static final long PRELOAD_TTL_MILLIS = 60_000L;
 
-    public CooldownManager() {
-        this.cooldowns = new ConcurrentHashMap<>();
+    private final long origin = System.nanoTime();
+    private final Map<UUID, long[]> cooldowns = new HashMap<>();
+    private final TimingWheel<Expiry> expiries = new TimingWheel<>(now());
+    private final CooldownStore store;
+    private final Map<UUID, Preloaded> preloaded = new ConcurrentHashMap<>();
+
+    public CooldownManager(CooldownStore store) {
+        this.store = store;
     }
 
     /**
      * Check if player has cooldown for specific item type
      */
     public boolean hasCooldown(Player player, ItemType type) {
-        Map<ItemType, Long> playerCooldowns = cooldowns.get(player.getUniqueId());
-        if (playerCooldowns == null) {
-            return false;
-        }
-
-        Long expiry = playerCooldowns.get(type);
-        if (expiry == null) {
-            return false;
-        }
-
-        if (System.currentTimeMillis() >= expiry) {
-            playerCooldowns.remove(type);
-            return false;
-        }
-
-        return true;
+        long[] expiry = cooldowns.get(player.getUniqueId());
+        return expiry != null && expiry[type.ordinal()] > now();
     }
 
     /**
      * Set cooldown for player and item type
      */
     public void setCooldown(Player player, ItemType type, double seconds) {
-        long expiryTime = System.currentTimeMillis() + (long) (seconds * 1000);
+        long expiryTime = now() + (long) (seconds * 1000);
 
-        cooldowns.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>())
-                .put(type, expiryTime);
+        setExpiry(player.getUniqueId(), type.ordinal(), expiryTime);
+        store.save(player.getUniqueId(), type.ordinal(), toWallClock(expiryTime));
     }
 
     /**
      * Get remaining cooldown time in seconds
      */
     public double getRemainingCooldown(Player player, ItemType type) {
-        Map<ItemType, Long> playerCooldowns = cooldowns.get(player.getUniqueId());
-        if (playerCooldowns == null) {
-            return 0;
-        }
-
-        Long expiry = playerCooldowns.get(type);
+        long[] expiry = cooldowns.get(player.getUniqueId());
         if (expiry == null) {
             return 0;
         }
 
-        long remaining = expiry - System.currentTimeMillis();
-        if (remaining <= 0) {
-            playerCooldowns.remove(type);
-            return 0;
-        }
-
-        return remaining / 1000.0;
+        long remaining = expiry[type.ordinal()] - now();
+        return remaining <= 0 ? 0 : remaining / 1000.0;
     }
 
     /**
@@ -86,14 +87,166 @@ public class CooldownManager {
      */
     public void clearAll() {
         cooldowns.clear();
+        expiries.clear();
     }
 
     /**
-     * Cleanup expired cooldowns (called periodically)
+     * Expire cooldowns that came due (called every second)
+     * Offline players are forgotten once their last cooldown expires
      */
     public void cleanup() {
-        long now = System.currentTimeMillis();
-        cooldowns.values().forEach(map -> map.entrySet().removeIf(entry -> entry.getValue() <= now));
-        cooldowns.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+        long now = now();
+        expiries.advance(now, this::expire);
+
+        // Logins that never reached join (kicked by another plugin, connection lost)
+        preloaded.values().removeIf(entry -> now - entry.loadedAt() > PRELOAD_TTL_MILLIS);
+    }
+
+    /**
+     * Copy every running cooldown with wall-clock expiry times (epoch millis, 0 = none)
+     */
+    public Map<UUID, long[]> exportActive() {
+        long now = now();
+        Map<UUID, long[]> active = new HashMap<>();
+        for (Map.Entry<UUID, long[]> entry : cooldowns.entrySet()) {
+            long[] expiry = null;
+            for (int ordinal = 0; ordinal < TYPES; ordinal++) {
+                if (entry.getValue()[ordinal] > now) {
+                    if (expiry == null) {
+                        expiry = new long[TYPES];
+                        active.put(entry.getKey(), expiry);
+                    }
+                    expiry[ordinal] = toWallClock(entry.getValue()[ordinal]);
+                }
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Restore a cooldown from a wall-clock expiry time, false if the ordinal is unknown
+     */
+    public boolean restore(UUID playerId, int ordinal, long expiresAtMillis) {
+        if (ordinal < 0 || ordinal >= TYPES) {
+            return false;
+        }
+        setExpiry(playerId, ordinal, fromWallClock(expiresAtMillis));
+        return true;
+    }
+
+    /**
+     * Write pending store changes and release it (plugin disable)
+     */
+    public void close() {
+        store.close();
+    }
+
+    /**
+     * Load stored cooldowns off the main thread while the player connects
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        long[] stored = store.load(event.getUniqueId());
+        if (stored != null) {
+            preloaded.put(event.getUniqueId(), new Preloaded(stored, now()));
+        }
+    }
+
+    /**
+     * Drop the cooldowns loaded at pre-login if the login is refused (whitelist, ban, full server)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            preloaded.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Merge the cooldowns loaded at pre-login into memory
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        Preloaded entry = preloaded.remove(playerId);
+        if (entry == null) {
+            return;
+        }
+        long[] stored = entry.expiry();
+
+        long wallNow = System.currentTimeMillis();
+        long[] current = cooldowns.get(playerId);
+        for (int ordinal = 0; ordinal < Math.min(stored.length, TYPES); ordinal++) {
+            if (stored[ordinal] <= wallNow) {
+                continue;
+            }
+            long expiryTime = fromWallClock(stored[ordinal]);
+            if (current == null || current[ordinal] < expiryTime) {
+                setExpiry(playerId, ordinal, expiryTime);
+            }
+        }
+    }
+
+    /**
+     * Reclaim the entry of a leaving player right away unless a cooldown is still running
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        long[] expiry = cooldowns.get(playerId);
+        if (expiry != null && !isActive(expiry, now())) {
+            cooldowns.remove(playerId);
+        }
+    }
+
+    private void setExpiry(UUID playerId, int ordinal, long expiryTime) {
+        cooldowns.computeIfAbsent(playerId, k -> new long[TYPES])[ordinal] = expiryTime;
+        expiries.schedule(expiryTime, new Expiry(playerId, ordinal, expiryTime));
+    }
+
+    private void expire(Expiry entry) {
+        long[] expiry = cooldowns.get(entry.playerId());
+        // Ignore entries superseded by a newer cooldown
+        if (expiry == null || expiry[entry.ordinal()] != entry.expiryTime()) {
+            return;
+        }
+
+        expiry[entry.ordinal()] = 0;
+        if (!isActive(expiry, now()) && Bukkit.getPlayer(entry.playerId()) == null) {
+            cooldowns.remove(entry.playerId());
+        }
+    }
+
+    private static boolean isActive(long[] expiry, long now) {
+        for (long time : expiry) {
+            if (time > now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Milliseconds on a monotonic clock, always positive
+     */
+    private long now() {
+        return (System.nanoTime() - origin) / 1_000_000L + 1;
+    }
+
+    private long toWallClock(long expiryTime) {
+        return System.currentTimeMillis() + (expiryTime - now());
+    }
+
+    private long fromWallClock(long epochMillis) {
+        return now() + (epochMillis - System.currentTimeMillis());
+    }
+
+    private record Expiry(UUID playerId, int ordinal, long expiryTime) {
+    }
+
+    private record Preloaded(long[] expiry, long loadedAt) {
     }
 }
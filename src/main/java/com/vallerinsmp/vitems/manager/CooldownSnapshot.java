@@ -0,0 +1,161 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.VItems;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Persists running cooldowns across restarts in plugins/vItems/cooldowns.dat
+ *
+ * Binary format: header (magic, version, record count) followed by
+ * fixed-width records of UUID (2 longs), ItemType ordinal (byte) and
+ * wall-clock expiry (epoch millis). The snapshot is encoded on the main
+ * thread (no I/O) and written async to a temp file, fsync'd and moved over
+ * the previous one. Snapshots are numbered when encoded and a write older
+ * than the last one on disk is dropped, so a late async write can never
+ * replace a newer snapshot (or the final one written on disable).
+ */
+public class CooldownSnapshot {
+
+    private static final int MAGIC = 0x56435331; // "VCS1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+    private static final int RECORD_BYTES = 8 + 8 + 1 + 8;
+
+    private final VItems plugin;
+    private final CooldownManager cooldownManager;
+    private final Path file;
+    private long sequence; // main thread only
+    private long writtenSequence; // guarded by this
+
+    public CooldownSnapshot(VItems plugin, CooldownManager cooldownManager) {
+        this.plugin = plugin;
+        this.cooldownManager = cooldownManager;
+        this.file = plugin.getDataFolder().toPath().resolve("cooldowns.dat");
+    }
+
+    /**
+     * Start periodic async snapshots (settings.cooldown-snapshot-interval-seconds)
+     */
+    public BukkitTask start() {
+        long interval = Math.max(1, plugin.getConfigManager().getInt("settings.cooldown-snapshot-interval-seconds", 60))
+                * 20L;
+        return Bukkit.getScheduler().runTaskTimer(plugin, this::saveAsync, interval, interval);
+    }
+
+    /**
+     * Restore the last snapshot, dropping expired entries (onEnable)
+     */
+    public void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (data.remaining() < HEADER_BYTES || data.getInt() != MAGIC || data.getInt() != VERSION) {
+                plugin.getLogger().warning("Ignoring unreadable cooldown snapshot " + file);
+                return;
+            }
+
+            int count = Math.min(data.getInt(), data.remaining() / RECORD_BYTES);
+            long now = System.currentTimeMillis();
+            int restored = 0;
+            for (int i = 0; i < count; i++) {
+                UUID playerId = new UUID(data.getLong(), data.getLong());
+                int ordinal = data.get();
+                long expiresAt = data.getLong();
+                if (expiresAt > now && cooldownManager.restore(playerId, ordinal, expiresAt)) {
+                    restored++;
+                }
+            }
+
+            if (plugin.getConfigManager().getBoolean("settings.debug", false)) {
+                plugin.getLogger().info("Restored " + restored + " of " + count + " cooldowns");
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not read cooldown snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encode on the main thread and write off-thread
+     */
+    public void saveAsync() {
+        long number = ++sequence;
+        ByteBuffer data = encode();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> write(number, data));
+    }
+
+    /**
+     * Encode and write on the calling thread (onDisable, async tasks no longer run)
+     */
+    public void saveNow() {
+        write(++sequence, encode());
+    }
+
+    private ByteBuffer encode() {
+        Map<UUID, long[]> active = cooldownManager.exportActive();
+        int records = 0;
+        for (long[] expiry : active.values()) {
+            for (long time : expiry) {
+                if (time > 0) {
+                    records++;
+                }
+            }
+        }
+
+        ByteBuffer data = ByteBuffer.allocate(HEADER_BYTES + records * RECORD_BYTES);
+        data.putInt(MAGIC).putInt(VERSION).putInt(records);
+        for (Map.Entry<UUID, long[]> entry : active.entrySet()) {
+            long[] expiry = entry.getValue();
+            for (int ordinal = 0; ordinal < expiry.length; ordinal++) {
+                if (expiry[ordinal] > 0) {
+                    data.putLong(entry.getKey().getMostSignificantBits())
+                            .putLong(entry.getKey().getLeastSignificantBits())
+                            .put((byte) ordinal)
+                            .putLong(expiry[ordinal]);
+                }
+            }
+        }
+        return data.flip();
+    }
+
+    private synchronized void write(long number, ByteBuffer data) {
+        if (number <= writtenSequence) {
+            return; // A newer snapshot is already on disk
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            writtenSequence = number;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write cooldown snapshot: " + e.getMessage());
+        }
+    }
+}
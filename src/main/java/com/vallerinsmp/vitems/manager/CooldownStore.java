@@ -0,0 +1,30 @@
+package com.vallerinsmp.vitems.manager;
+
+import java.util.UUID;
+
+/**
+ * Backend behind CooldownManager
+ *
+ * CooldownManager keeps every online player's cooldowns in memory and
+ * answers checks from there; a store only receives writes and is read once
+ * when a player logs in. Expiry times are wall-clock epoch milliseconds,
+ * arrays are indexed by ItemType ordinal (0 = no cooldown).
+ */
+public interface CooldownStore {
+
+    /**
+     * Load the cooldowns of a player, or null if the store has none
+     * May block, only called from async threads (pre-login)
+     */
+    long[] load(UUID playerId);
+
+    /**
+     * Record a cooldown, must not block (implementations batch writes)
+     */
+    void save(UUID playerId, int ordinal, long expiresAtMillis);
+
+    /**
+     * Write pending changes and release resources (plugin disable)
+     */
+    void close();
+}
@@ -0,0 +1,290 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.util.ItemType;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+
+/**
+ * Delivers /vitems give jobs spread across ticks
+ *
+ * Each tick hands out at most settings.give.items-per-tick items. Items
+ * that do not fit, or whose recipient is offline, are kept as pending
+ * deliveries (saved in pending-deliveries.yml) and given on the next join.
+ * Saves are numbered when serialized and a write older than the last one
+ * on disk is dropped, so handed-out items never reappear in the file.
+ */
+public class DeliveryManager implements Listener {
+
+    private final VItems plugin;
+    private final Queue<Job> jobs = new ArrayDeque<>();
+    private final Map<UUID, Map<ItemType, Integer>> pending = new HashMap<>();
+    private final File pendingFile;
+    private int itemsPerTick;
+    private long sequence; // main thread only
+    private long writtenSequence; // guarded by this
+
+    public DeliveryManager(VItems plugin) {
+        this.plugin = plugin;
+        this.pendingFile = new File(plugin.getDataFolder(), "pending-deliveries.yml");
+        reload();
+    }
+
+    /**
+     * Re-read settings.give from config
+     */
+    public void reload() {
+        this.itemsPerTick = Math.max(1, plugin.getConfigManager().getInt("settings.give.items-per-tick", 50));
+    }
+
+    /**
+     * Start the delivery task (runs every tick)
+     */
+    public BukkitTask start() {
+        return Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Queue a delivery of amount items to every recipient
+     */
+    public void submit(CommandSender sender, List<UUID> recipients, ItemType type, int amount) {
+        jobs.add(new Job(sender, recipients, type, amount));
+    }
+
+    /**
+     * Number of items waiting for their recipient to join
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (Map<ItemType, Integer> items : pending.values()) {
+            for (int amount : items.values()) {
+                count += amount;
+            }
+        }
+        return count;
+    }
+
+    private void tick() {
+        int budget = itemsPerTick;
+
+        while (budget > 0 && !jobs.isEmpty()) {
+            Job job = jobs.peek();
+            UUID recipient = job.recipients.get(job.index);
+
+            // Large amounts are split across ticks so the budget is never exceeded
+            int count = Math.min(budget, job.amount - job.given);
+            budget -= count;
+
+            Player player = Bukkit.getPlayer(recipient);
+            int leftover = player != null ? deliver(player, job.type, count, job.given == 0) : count;
+            job.delivered += count - leftover;
+            if (leftover > 0) {
+                addPending(recipient, job.type, leftover);
+                job.pending += leftover;
+            }
+
+            job.given += count;
+            if (job.given < job.amount) {
+                continue;
+            }
+            job.given = 0;
+            if (++job.index >= job.recipients.size()) {
+                jobs.poll();
+                finish(job);
+            }
+        }
+    }
+
+    /**
+     * Give items to an online player, returns how many did not fit
+     *
+     * @param notify tell the player, only for the first part of a split delivery
+     */
+    private int deliver(Player player, ItemType type, int amount, boolean notify) {
+        int leftover = plugin.getItemManager().giveItem(player, type, amount);
+        if (notify && leftover < amount) {
+            player.sendMessage(plugin.getConfigManager().getMessage("command.item-received",
+                    Map.of("%item%", type.getConfigKey())));
+        }
+        return leftover;
+    }
+
+    private void finish(Job job) {
+        if (job.pending > 0) {
+            saveAsync();
+        }
+        if (job.sender instanceof Player player && !player.isOnline()) {
+            return;
+        }
+
+        if (job.recipients.size() == 1 && job.pending == 0) {
+            Player target = Bukkit.getPlayer(job.recipients.get(0));
+            job.sender.sendMessage(plugin.getConfigManager().getMessage("command.item-given", Map.of(
+                    "%item%", job.type.getConfigKey(),
+                    "%player%", target != null ? target.getName() : job.recipients.get(0).toString())));
+            return;
+        }
+
+        job.sender.sendMessage(plugin.getConfigManager().getMessage("command.give-complete", Map.of(
+                "%item%", job.type.getConfigKey(),
+                "%players%", String.valueOf(job.recipients.size()),
+                "%delivered%", String.valueOf(job.delivered),
+                "%pending%", String.valueOf(job.pending))));
+    }
+
+    /**
+     * Hand out pending deliveries once the player is in the world
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        if (!pending.containsKey(playerId)) {
+            return;
+        }
+
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            Player player = Bukkit.getPlayer(playerId);
+            Map<ItemType, Integer> items = pending.remove(playerId);
+            if (player == null || items == null) {
+                if (items != null) {
+                    pending.put(playerId, items);
+                }
+                return;
+            }
+
+            int delivered = 0;
+            for (Map.Entry<ItemType, Integer> entry : items.entrySet()) {
+                int leftover = plugin.getItemManager().giveItem(player, entry.getKey(), entry.getValue());
+                delivered += entry.getValue() - leftover;
+                if (leftover > 0) {
+                    addPending(playerId, entry.getKey(), leftover);
+                }
+            }
+
+            if (delivered > 0) {
+                player.sendMessage(plugin.getConfigManager().getMessage("command.pending-delivered",
+                        Map.of("%count%", String.valueOf(delivered))));
+                saveAsync();
+            }
+        });
+    }
+
+    private void addPending(UUID playerId, ItemType type, int amount) {
+        pending.computeIfAbsent(playerId, k -> new EnumMap<>(ItemType.class)).merge(type, amount, Integer::sum);
+    }
+
+    /**
+     * Load pending deliveries (onEnable)
+     */
+    public void load() {
+        if (!pendingFile.exists()) {
+            return;
+        }
+
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(pendingFile);
+        for (String key : yaml.getKeys(false)) {
+            ConfigurationSection section = yaml.getConfigurationSection(key);
+            if (section == null) {
+                continue;
+            }
+            try {
+                UUID playerId = UUID.fromString(key);
+                for (String itemKey : section.getKeys(false)) {
+                    ItemType type = ItemType.fromConfigKey(itemKey);
+                    int amount = section.getInt(itemKey);
+                    if (type != null && amount > 0) {
+                        addPending(playerId, type, amount);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Skipping invalid pending delivery entry '" + key + "'");
+            }
+        }
+    }
+
+    /**
+     * Serialize on the main thread, write off-thread
+     */
+    public void saveAsync() {
+        long number = ++sequence;
+        String data = serialize();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> write(number, data));
+    }
+
+    /**
+     * Serialize and write on the calling thread (onDisable)
+     * Recipients of unfinished jobs are kept as pending deliveries
+     */
+    public void saveNow() {
+        Job job;
+        while ((job = jobs.poll()) != null) {
+            for (int i = job.index; i < job.recipients.size(); i++) {
+                addPending(job.recipients.get(i), job.type, job.amount);
+            }
+        }
+        write(++sequence, serialize());
+    }
+
+    private String serialize() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        for (Map.Entry<UUID, Map<ItemType, Integer>> entry : pending.entrySet()) {
+            for (Map.Entry<ItemType, Integer> item : entry.getValue().entrySet()) {
+                yaml.set(entry.getKey() + "." + item.getKey().getConfigKey(), item.getValue());
+            }
+        }
+        return yaml.saveToString();
+    }
+
+    private synchronized void write(long number, String data) {
+        if (number <= writtenSequence) {
+            return; // A newer save is already on disk
+        }
+
+        try {
+            Files.createDirectories(pendingFile.getParentFile().toPath());
+            Files.writeString(pendingFile.toPath(), data, StandardCharsets.UTF_8);
+            writtenSequence = number;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not save pending deliveries: " + e.getMessage());
+        }
+    }
+
+    private static final class Job {
+        private final CommandSender sender;
+        private final List<UUID> recipients;
+        private final ItemType type;
+        private final int amount;
+        private int index;
+        // Items already handled for the current recipient
+        private int given;
+        private int delivered;
+        private int pending;
+
+        private Job(CommandSender sender, List<UUID> recipients, ItemType type, int amount) {
+            this.sender = sender;
+            this.recipients = recipients;
+            this.type = type;
+            this.amount = amount;
+        }
+    }
+}
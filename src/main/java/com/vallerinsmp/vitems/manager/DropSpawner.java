@@ -0,0 +1,72 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.VItems;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Spawns the merged drops of tool operations, optionally after a short delay
+ * Delayed drops are tracked so a shutdown spawns them instead of losing them
+ */
+public class DropSpawner {
+
+    private final VItems plugin;
+    private final Set<PendingDrop> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public DropSpawner(VItems plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Spawn stacks at a location, now or after delayTicks
+     */
+    public void spawn(Location location, List<ItemStack> stacks, int delayTicks) {
+        if (stacks.isEmpty()) {
+            return;
+        }
+        if (delayTicks <= 0 || !plugin.isEnabled()) {
+            drop(location, stacks);
+            return;
+        }
+
+        PendingDrop drop = new PendingDrop(location, stacks);
+        pending.add(drop);
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (pending.remove(drop)) {
+                drop(drop.location(), drop.stacks());
+            }
+        }, delayTicks);
+    }
+
+    /**
+     * Spawn every delayed drop right away (on disable)
+     */
+    public void flushAll() {
+        List<PendingDrop> drops = new ArrayList<>(pending);
+        pending.clear();
+        for (PendingDrop drop : drops) {
+            drop(drop.location(), drop.stacks());
+        }
+    }
+
+    private static void drop(Location location, List<ItemStack> stacks) {
+        World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        for (ItemStack stack : stacks) {
+            world.dropItemNaturally(location, stack);
+        }
+    }
+
+    private record PendingDrop(Location location, List<ItemStack> stacks) {
+    }
+}
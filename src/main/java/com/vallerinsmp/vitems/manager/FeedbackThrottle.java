@@ -0,0 +1,73 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.VItems;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Rate limits repeated tool feedback (cooldown, protected region...) per player
+ * A message path is sent at most once per window; repeats are dropped before
+ * the message is even built
+ */
+public class FeedbackThrottle implements Listener {
+
+    private final VItems plugin;
+    private final Map<UUID, Map<String, Long>> lastSent = new HashMap<>();
+    private long windowMillis;
+    private boolean actionBar;
+
+    public FeedbackThrottle(VItems plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    /**
+     * Re-read settings.feedback from config
+     */
+    public void reload() {
+        this.windowMillis = Math.max(0, plugin.getConfigManager().getInt("settings.feedback.throttle-ms", 1000));
+        this.actionBar = plugin.getConfigManager().getBoolean("settings.feedback.action-bar", false);
+    }
+
+    /**
+     * Send a message unless the same path was sent to this player within the window
+     *
+     * @param placeholders only evaluated if the message is actually sent
+     */
+    public void send(Player player, String path, Supplier<Map<String, String>> placeholders) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> sent = lastSent.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>());
+        Long last = sent.get(path);
+        if (last != null && now - last < windowMillis) {
+            return;
+        }
+        sent.put(path, now);
+
+        var message = plugin.getConfigManager().getMessage(path, placeholders.get());
+        if (actionBar) {
+            player.sendActionBar(message);
+        } else {
+            player.sendMessage(message);
+        }
+    }
+
+    /**
+     * Send a message without placeholders, throttled
+     */
+    public void send(Player player, String path) {
+        send(player, path, Map::of);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        lastSent.remove(event.getPlayer().getUniqueId());
+    }
+}
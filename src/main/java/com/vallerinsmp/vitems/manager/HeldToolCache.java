@@ -0,0 +1,146 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.VItems;
+import com.vallerinsmp.vitems.util.ItemType;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caches which custom tool (if any) each player is holding
+ *
+ * Breaks with ordinary items resolve to a map lookup without touching the
+ * ItemStack. Entries are dropped whenever the held item may have changed;
+ * positive hits are always re-read so a stale entry can never turn a plain
+ * tool into a custom one.
+ */
+public class HeldToolCache implements Listener {
+
+    // Safety net for items changed by other plugins without firing an event
+    private static final int NEGATIVE_TTL_TICKS = 20;
+
+    private final VItems plugin;
+    private final Map<UUID, CachedTool> cache = new HashMap<>();
+
+    public HeldToolCache(VItems plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Get the custom tool type in a player's main hand, or null for any other item
+     */
+    public ItemType getHeldType(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        int slot = inventory.getHeldItemSlot();
+        int tick = Bukkit.getCurrentTick();
+
+        CachedTool cached = cache.get(player.getUniqueId());
+        if (cached != null && cached.type == null && cached.slot == slot
+                && tick - cached.tick < NEGATIVE_TTL_TICKS) {
+            return null;
+        }
+
+        ItemType type = plugin.getItemManager().getItemType(inventory.getItemInMainHand());
+        if (cached == null) {
+            cached = new CachedTool();
+            cache.put(player.getUniqueId(), cached);
+        }
+        cached.slot = slot;
+        cached.type = type;
+        cached.tick = tick;
+        return type;
+    }
+
+    /**
+     * Forget the cached tool of a player
+     */
+    public void invalidate(Player player) {
+        cache.remove(player.getUniqueId());
+    }
+
+    /**
+     * Forget every cached tool
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player player) {
+            invalidate(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player player) {
+            invalidate(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDropItem(PlayerDropItemEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPickupItem(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            invalidate(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    private static final class CachedTool {
+        private int slot;
+        private ItemType type;
+        private int tick;
+    }
+}
@@ -12,7 +12,11 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Manages custom item creation and identification
@@ -21,63 +25,84 @@ public class ItemManager {
 
     private final VItems plugin;
     private final NamespacedKey itemTypeKey;
+    private final NamespacedKey revisionKey;
+    private final Set<Material> toolMaterials = EnumSet.noneOf(Material.class);
+    private volatile Map<ItemType, ItemTemplate> templates = new EnumMap<>(ItemType.class);
 
     public ItemManager(VItems plugin) {
         this.plugin = plugin;
         this.itemTypeKey = new NamespacedKey(plugin, "item_type");
+        this.revisionKey = new NamespacedKey(plugin, "revision");
+
+        // Only these base materials can ever carry a vItems tag
+        for (ItemType type : ItemType.values()) {
+            toolMaterials.add(getMaterialForType(type));
+        }
+        reload();
     }
 
     /**
-     * Create a custom item of specified type
+     * Prerender every item type from messages.yml
+     * The revision is derived from the name and lore, so unchanged items are never rewritten
      */
-    public ItemStack createItem(ItemType type) {
-        Material material = getMaterialForType(type);
-        ItemStack item = new ItemStack(material);
-        ItemMeta meta = item.getItemMeta();
-
-        if (meta == null) {
-            return item;
+    public void reload() {
+        Map<ItemType, ItemTemplate> rendered = new EnumMap<>(ItemType.class);
+        for (ItemType type : ItemType.values()) {
+            rendered.put(type, renderTemplate(type));
         }
+        templates = rendered;
+    }
 
-        // Set NBT identifier
-        meta.getPersistentDataContainer().set(itemTypeKey, PersistentDataType.STRING, type.getNbtIdentifier());
+    /**
+     * Parse the name and lore of a type once and build the item they produce
+     */
+    private ItemTemplate renderTemplate(ItemType type) {
+        String nameText = plugin.getConfigManager().getRawMessage("items." + type.getConfigKey() + ".name");
+        List<String> loreLines = plugin.getConfigManager().getMessageList("items." + type.getConfigKey() + ".lore");
+        int revision = 31 * nameText.hashCode() + loreLines.hashCode();
 
-        // Set display name (with italic reset)
-        String namePath = "items." + type.getConfigKey() + ".name";
-        String nameText = plugin.getConfigManager().getRawMessage(namePath);
+        // Parse name and lore (with italic reset)
         Component name = plugin.getConfigManager().parse("<!italic>" + nameText);
-        meta.displayName(name);
-
-        // Set lore (with italic reset)
-        String lorePath = "items." + type.getConfigKey() + ".lore";
-        List<String> loreLines = plugin.getConfigManager().getMessageList(lorePath);
         List<Component> lore = loreLines.stream()
                 .map(line -> plugin.getConfigManager().parse("<!italic>" + line))
                 .toList();
-        meta.lore(lore);
 
-        // Add glow effect
-        meta.addEnchant(Enchantment.UNBREAKING, 1, true);
-        meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        ItemStack item = new ItemStack(getMaterialForType(type));
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            // Set NBT identifier and revision
+            meta.getPersistentDataContainer().set(itemTypeKey, PersistentDataType.STRING, type.getNbtIdentifier());
+            meta.getPersistentDataContainer().set(revisionKey, PersistentDataType.INTEGER, revision);
+
+            meta.displayName(name);
+            meta.lore(lore);
 
-        item.setItemMeta(meta);
-        return item;
+            // Add glow effect
+            meta.addEnchant(Enchantment.UNBREAKING, 1, true);
+            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+
+            item.setItemMeta(meta);
+        }
+        return new ItemTemplate(item, name, lore, revision);
+    }
+
+    /**
+     * Create a custom item of specified type (a copy of its prerendered template)
+     */
+    public ItemStack createItem(ItemType type) {
+        return templates.get(type).item().clone();
     }
 
     /**
      * Get the ItemType from an ItemStack
+     * Rejects by material first and reads the tag through the read-only PDC view (no meta clone)
      */
     public ItemType getItemType(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) {
-            return null;
-        }
-
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
+        if (item == null || !toolMaterials.contains(item.getType())) {
             return null;
         }
 
-        String nbtValue = meta.getPersistentDataContainer().get(itemTypeKey, PersistentDataType.STRING);
+        String nbtValue = item.getPersistentDataContainer().get(itemTypeKey, PersistentDataType.STRING);
         return ItemType.fromNbt(nbtValue);
     }
 
@@ -102,29 +127,50 @@ public class ItemManager {
             return;
         }
 
-        // Update display name (with italic reset)
-        String namePath = "items." + type.getConfigKey() + ".name";
-        String nameText = plugin.getConfigManager().getRawMessage(namePath);
-        Component name = plugin.getConfigManager().parse("<!italic>" + nameText);
-        meta.displayName(name);
-
-        // Update lore (with italic reset)
-        String lorePath = "items." + type.getConfigKey() + ".lore";
-        List<String> loreLines = plugin.getConfigManager().getMessageList(lorePath);
-        List<Component> lore = loreLines.stream()
-                .map(line -> plugin.getConfigManager().parse("<!italic>" + line))
-                .toList();
-        meta.lore(lore);
+        // Copy the prerendered name and lore (components are immutable and shared)
+        ItemTemplate template = templates.get(type);
+        meta.displayName(template.name());
+        meta.lore(template.lore());
 
+        meta.getPersistentDataContainer().set(revisionKey, PersistentDataType.INTEGER, template.revision());
         item.setItemMeta(meta);
     }
 
     /**
-     * Give a custom item to a player
+     * Update a custom item only if its revision stamp is stale
+     *
+     * @return true if the item was rewritten
+     */
+    public boolean refreshIfStale(ItemStack item) {
+        ItemType type = getItemType(item);
+        if (type == null) {
+            return false;
+        }
+
+        Integer revision = item.getPersistentDataContainer().get(revisionKey, PersistentDataType.INTEGER);
+        if (revision != null && revision == templates.get(type).revision()) {
+            return false;
+        }
+
+        updateItem(item);
+        return true;
+    }
+
+    /**
+     * Give custom items to a player
+     *
+     * @return how many items did not fit in the inventory
      */
-    public void giveItem(Player player, ItemType type) {
+    public int giveItem(Player player, ItemType type, int amount) {
         ItemStack item = createItem(type);
-        player.getInventory().addItem(item);
+        item.setAmount(amount);
+
+        int leftover = 0;
+        for (ItemStack rest : player.getInventory().addItem(item).values()) {
+            leftover += rest.getAmount();
+        }
+        plugin.getHeldToolCache().invalidate(player);
+        return leftover;
     }
 
     /**
@@ -144,4 +190,7 @@ public class ItemManager {
     public NamespacedKey getItemTypeKey() {
         return itemTypeKey;
     }
+
+    private record ItemTemplate(ItemStack item, Component name, List<Component> lore, int revision) {
+    }
 }
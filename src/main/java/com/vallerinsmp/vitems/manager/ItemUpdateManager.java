@@ -2,94 +2,102 @@ package com.vallerinsmp.vitems.manager;
 
 import com.vallerinsmp.vitems.VItems;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
- * Progressively updates existing custom items when config is reloaded
- * to prevent lag spikes
+ * Lazily updates existing custom items after config reloads
+ *
+ * Every tool carries the revision of the name/lore it was rendered with.
+ * Instead of scanning inventories on reload, a tool is refreshed when it is
+ * touched (held, clicked, picked up or seen in an opened container) and its
+ * revision is stale, so items in containers and of offline players are
+ * eventually updated too.
  */
-public class ItemUpdateManager {
+public class ItemUpdateManager implements Listener {
 
     private final VItems plugin;
+    private boolean enabled;
 
     public ItemUpdateManager(VItems plugin) {
         this.plugin = plugin;
+        this.enabled = plugin.getConfigManager().getBoolean("settings.update-items-on-reload", true);
     }
 
     /**
-     * Update all custom items for online players progressively
+     * Publish the new item revisions after a reload
+     * Only the items currently held are refreshed right away
      */
     public void updateAllItems() {
-        if (!plugin.getConfigManager().getBoolean("settings.update-items-on-reload", true)) {
+        this.enabled = plugin.getConfigManager().getBoolean("settings.update-items-on-reload", true);
+        plugin.getItemManager().reload();
+        if (!enabled) {
             return;
         }
 
-        int batchSize = plugin.getConfigManager().getInt("settings.update-batch-size", 50);
-        List<ItemStack> itemsToUpdate = collectCustomItems();
-
-        if (itemsToUpdate.isEmpty()) {
-            return;
+        int updated = 0;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (refresh(player.getInventory().getItemInMainHand())) {
+                updated++;
+            }
+            if (refresh(player.getInventory().getItemInOffHand())) {
+                updated++;
+            }
         }
 
-        // Update items in batches to prevent lag
-        new BukkitRunnable() {
-            int index = 0;
-
-            @Override
-            public void run() {
-                int processed = 0;
-
-                while (index < itemsToUpdate.size() && processed < batchSize) {
-                    ItemStack item = itemsToUpdate.get(index);
-                    plugin.getItemManager().updateItem(item);
-                    index++;
-                    processed++;
-                }
-
-                if (index >= itemsToUpdate.size()) {
-                    this.cancel();
+        if (plugin.getConfigManager().getBoolean("settings.debug", false)) {
+            plugin.getLogger().info("Updated " + updated + " held custom items, others update when used");
+        }
+    }
 
-                    if (plugin.getConfigManager().getBoolean("settings.debug", false)) {
-                        plugin.getLogger().info("Updated " + itemsToUpdate.size() + " custom items");
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 1L, 1L); // Run every tick
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        refresh(event.getPlayer().getInventory().getItem(event.getNewSlot()));
     }
 
-    /**
-     * Collect all custom items from online players
-     */
-    private List<ItemStack> collectCustomItems() {
-        List<ItemStack> items = new ArrayList<>();
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        refresh(event.getPlayer().getInventory().getItemInMainHand());
+        refresh(event.getPlayer().getInventory().getItemInOffHand());
+    }
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            // Check main inventory
-            for (ItemStack item : player.getInventory().getContents()) {
-                if (plugin.getItemManager().isCustomItem(item)) {
-                    items.add(item);
-                }
-            }
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        refresh(event.getCurrentItem());
+        refresh(event.getCursor());
+    }
 
-            // Check armor
-            for (ItemStack item : player.getInventory().getArmorContents()) {
-                if (plugin.getItemManager().isCustomItem(item)) {
-                    items.add(item);
-                }
-            }
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        Item entity = event.getItem();
+        ItemStack stack = entity.getItemStack();
+        if (refresh(stack)) {
+            entity.setItemStack(stack);
+        }
+    }
 
-            // Check off-hand
-            ItemStack offHand = player.getInventory().getItemInOffHand();
-            if (plugin.getItemManager().isCustomItem(offHand)) {
-                items.add(offHand);
-            }
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        ItemStack[] contents = event.getInventory().getContents();
+        boolean changed = false;
+        for (ItemStack item : contents) {
+            changed |= refresh(item);
+        }
+        if (changed) {
+            event.getInventory().setContents(contents);
         }
+    }
 
-        return items;
+    private boolean refresh(ItemStack item) {
+        return enabled && item != null && plugin.getItemManager().refreshIfStale(item);
     }
 }
@@ -0,0 +1,23 @@
+package com.vallerinsmp.vitems.manager;
+
+import java.util.UUID;
+
+/**
+ * Default store: cooldowns only live in CooldownManager's memory on this server
+ */
+public class LocalCooldownStore implements CooldownStore {
+
+    @Override
+    public long[] load(UUID playerId) {
+        return null;
+    }
+
+    @Override
+    public void save(UUID playerId, int ordinal, long expiresAtMillis) {
+        // Nothing to share, the in-memory copy is authoritative
+    }
+
+    @Override
+    public void close() {
+    }
+}
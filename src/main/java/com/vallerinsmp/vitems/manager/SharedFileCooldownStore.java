@@ -0,0 +1,251 @@
+package com.vallerinsmp.vitems.manager;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Cooldown store shared by several servers through one memory-mapped file
+ *
+ * The file is a fixed-size open-addressing table of records
+ * (UUID + one expiry per tool). Writes are queued and applied in batches
+ * by an async task under an exclusive file lock; reads happen once per
+ * login on the async pre-login thread under a shared lock. Records whose
+ * cooldowns all expired are reused for new players.
+ */
+public class SharedFileCooldownStore implements CooldownStore {
+
+    private static final int MAGIC = 0x56434431; // "VCD1"
+    private static final int HEADER_BYTES = 16;
+    // Bounds for the header of an existing file, keep the mapping well under 2 GiB
+    public static final int MAX_SLOTS = 1 << 20;
+    private static final int MAX_TYPES = 64;
+
+    private final Plugin plugin;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private final int fileTypes;
+    private final int localTypes;
+    private final int recordBytes;
+    private final Queue<PendingWrite> pending = new ConcurrentLinkedQueue<>();
+    private final BukkitTask flushTask;
+    private boolean fullWarned;
+
+    /**
+     * Open (or create) the shared file
+     *
+     * @param slots      table size used when the file is created (existing files keep theirs)
+     * @param localTypes number of tool types known to this server
+     * @param flushTicks how often queued writes are applied
+     * @throws IOException if the file cannot be opened or its header is invalid
+     */
+    public SharedFileCooldownStore(Plugin plugin, Path path, int slots, int localTypes, long flushTicks)
+            throws IOException {
+        this.plugin = plugin;
+        this.localTypes = localTypes;
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+
+        // Read or write the header under an exclusive lock so two servers cannot both create it
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        try {
+            try (FileLock ignored = channel.lock()) {
+                if (channel.size() >= HEADER_BYTES) {
+                    channel.read(header, 0);
+                    header.flip();
+                    if (header.getInt() != MAGIC) {
+                        throw new IOException("Not a vItems cooldown file: " + path);
+                    }
+                    header.getInt(); // reserved
+                    this.slots = header.getInt();
+                    this.fileTypes = header.getInt();
+                    validate(this.slots, this.fileTypes, path);
+                } else {
+                    validate(slots, localTypes, path);
+                    this.slots = slots;
+                    this.fileTypes = localTypes;
+                    header.putInt(MAGIC).putInt(0).putInt(slots).putInt(localTypes).flip();
+                    channel.write(header, 0);
+                }
+            }
+
+            this.recordBytes = 16 + 8 * fileTypes;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) this.slots * recordBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, flushTicks, flushTicks);
+    }
+
+    @Override
+    public synchronized long[] load(UUID playerId) {
+        try (FileLock ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+            int slot = find(playerId, false, System.currentTimeMillis());
+            if (slot < 0) {
+                return null;
+            }
+
+            long[] expiry = new long[localTypes];
+            int offset = offset(slot) + 16;
+            for (int i = 0; i < Math.min(fileTypes, localTypes); i++) {
+                expiry[i] = buffer.getLong(offset + i * 8);
+            }
+            return expiry;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not read shared cooldowns: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void save(UUID playerId, int ordinal, long expiresAtMillis) {
+        if (ordinal < fileTypes) {
+            pending.add(new PendingWrite(playerId, ordinal, expiresAtMillis));
+        }
+    }
+
+    /**
+     * Apply every queued write in one locked batch (async)
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty() || !channel.isOpen()) {
+            return;
+        }
+
+        // Coalesce the batch per player, keeping the latest expiry per tool
+        Map<UUID, long[]> batch = new HashMap<>();
+        PendingWrite write;
+        while ((write = pending.poll()) != null) {
+            long[] expiry = batch.computeIfAbsent(write.playerId(), k -> new long[fileTypes]);
+            expiry[write.ordinal()] = Math.max(expiry[write.ordinal()], write.expiresAtMillis());
+        }
+
+        long now = System.currentTimeMillis();
+        try (FileLock ignored = channel.lock()) {
+            for (Map.Entry<UUID, long[]> entry : batch.entrySet()) {
+                int slot = find(entry.getKey(), true, now);
+                if (slot < 0) {
+                    if (!fullWarned) {
+                        plugin.getLogger().warning("Shared cooldown file is full, increase its slots");
+                        fullWarned = true;
+                    }
+                    continue;
+                }
+                writeRecord(slot, entry.getKey(), entry.getValue());
+            }
+            buffer.force();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write shared cooldowns: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        flushTask.cancel();
+        flush();
+        synchronized (this) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not close shared cooldown file: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void validate(int slots, int types, Path path) throws IOException {
+        if (slots < 1 || slots > MAX_SLOTS) {
+            throw new IOException("Invalid slot count " + slots + " in " + path + " (1-" + MAX_SLOTS + ")");
+        }
+        if (types < 1 || types > MAX_TYPES) {
+            throw new IOException("Invalid tool count " + types + " in " + path + " (1-" + MAX_TYPES + ")");
+        }
+    }
+
+    /**
+     * Find the record of a player
+     *
+     * @param insert if the player has no record, return a free or fully expired slot instead of -1
+     */
+    private int find(UUID playerId, boolean insert, long now) {
+        long msb = playerId.getMostSignificantBits();
+        long lsb = playerId.getLeastSignificantBits();
+        int reusable = -1;
+        int slot = Math.floorMod(hash(msb, lsb), slots);
+
+        for (int probe = 0; probe < slots; probe++) {
+            int offset = offset(slot);
+            long recordMsb = buffer.getLong(offset);
+            long recordLsb = buffer.getLong(offset + 8);
+
+            if (recordMsb == msb && recordLsb == lsb) {
+                return slot;
+            }
+            if (recordMsb == 0 && recordLsb == 0) {
+                // End of the probe chain
+                return insert ? (reusable >= 0 ? reusable : slot) : -1;
+            }
+            if (insert && reusable < 0 && isExpired(offset, now)) {
+                reusable = slot;
+            }
+            slot = slot + 1 == slots ? 0 : slot + 1;
+        }
+        return insert ? reusable : -1;
+    }
+
+    private void writeRecord(int slot, UUID playerId, long[] expiry) {
+        int offset = offset(slot);
+        boolean sameOwner = buffer.getLong(offset) == playerId.getMostSignificantBits()
+                && buffer.getLong(offset + 8) == playerId.getLeastSignificantBits();
+
+        buffer.putLong(offset, playerId.getMostSignificantBits());
+        buffer.putLong(offset + 8, playerId.getLeastSignificantBits());
+        for (int i = 0; i < fileTypes; i++) {
+            int position = offset + 16 + i * 8;
+            long current = sameOwner ? buffer.getLong(position) : 0;
+            buffer.putLong(position, Math.max(current, expiry[i]));
+        }
+    }
+
+    private boolean isExpired(int offset, long now) {
+        for (int i = 0; i < fileTypes; i++) {
+            if (buffer.getLong(offset + 16 + i * 8) > now) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int offset(int slot) {
+        return HEADER_BYTES + slot * recordBytes;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long hash = msb ^ lsb;
+        int mixed = (int) (hash ^ (hash >>> 32)) * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    private record PendingWrite(UUID playerId, int ordinal, long expiresAtMillis) {
+    }
+}
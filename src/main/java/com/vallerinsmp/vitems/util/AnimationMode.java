@@ -0,0 +1,35 @@
+package com.vallerinsmp.vitems.util;
+
+/**
+ * How progressive tools pace their breaking
+ */
+public enum AnimationMode {
+    /** One block every animation-delay-ticks */
+    FIXED,
+    /** A variable number of blocks per tick, scaled by server load */
+    ADAPTIVE,
+    /** One BFS depth layer per tick, capped by the adaptive rate */
+    WAVEFRONT;
+
+    /**
+     * Get AnimationMode from config value, defaults to FIXED
+     */
+    public static AnimationMode fromConfig(String value) {
+        AnimationMode mode = parse(value);
+        return mode == null ? FIXED : mode;
+    }
+
+    /**
+     * Get AnimationMode from config value, or null if unknown
+     */
+    public static AnimationMode parse(String value) {
+        if (value != null) {
+            for (AnimationMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(value.trim())) {
+                    return mode;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.block.BlockFace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Excavation shape for area tools: width x height on the plane of the clicked
+ * face, depth going into the block. Offset tables are built once per face,
+ * center first, so a swing only iterates a precomputed int array.
+ *
+ * Config format: "3x3", "5x5", "3x3x3", "3x3x5" (width x height [x depth])
+ */
+public final class AreaShape {
+
+    public static final AreaShape DEFAULT = new AreaShape(3, 3, 1);
+    // Largest accepted width, height and depth
+    public static final int MAX_DIMENSION = 16;
+
+    private final int width;
+    private final int height;
+    private final int depth;
+    private final int[][] offsetsByFace;
+
+    private AreaShape(int width, int height, int depth) {
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+
+        BlockFace[] faces = BlockFace.values();
+        this.offsetsByFace = new int[faces.length][];
+        for (BlockFace face : faces) {
+            offsetsByFace[face.ordinal()] = buildOffsets(face);
+        }
+    }
+
+    /**
+     * Parse a shape like "3x3" or "3x3x5"
+     *
+     * @throws IllegalArgumentException if the value is malformed, not positive or above MAX_DIMENSION
+     */
+    public static AreaShape parse(String value) {
+        String[] parts = value.trim().toLowerCase(Locale.ROOT).split("x");
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("Expected WIDTHxHEIGHT or WIDTHxHEIGHTxDEPTH, got '" + value + "'");
+        }
+
+        try {
+            int width = Integer.parseInt(parts[0].trim());
+            int height = Integer.parseInt(parts[1].trim());
+            int depth = parts.length == 3 ? Integer.parseInt(parts[2].trim()) : 1;
+            if (width < 1 || height < 1 || depth < 1) {
+                throw new IllegalArgumentException("Shape dimensions must be positive, got '" + value + "'");
+            }
+            if (width > MAX_DIMENSION || height > MAX_DIMENSION || depth > MAX_DIMENSION) {
+                throw new IllegalArgumentException("Shape dimensions must be at most " + MAX_DIMENSION + ", got '"
+                        + value + "'");
+            }
+            return new AreaShape(width, height, depth);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid shape '" + value + "'");
+        }
+    }
+
+    /**
+     * Get the offset table for a clicked face (null defaults to NORTH)
+     * Packed as consecutive (dx, dy, dz) triples; shared, do not modify
+     */
+    public int[] offsets(BlockFace clickedFace) {
+        return offsetsByFace[(clickedFace == null ? BlockFace.NORTH : clickedFace).ordinal()];
+    }
+
+    /**
+     * Number of blocks in this shape
+     */
+    public int volume() {
+        return width * height * depth;
+    }
+
+    private int[] buildOffsets(BlockFace face) {
+        List<int[]> offsets = new ArrayList<>(volume());
+        int minU = -(width - 1) / 2;
+        int minV = -(height - 1) / 2;
+
+        for (int d = 0; d < depth; d++) {
+            for (int u = minU; u < minU + width; u++) {
+                for (int v = minV; v < minV + height; v++) {
+                    offsets.add(new int[] { u, v, d });
+                }
+            }
+        }
+
+        // Front layer first, center outwards, so a max-blocks cap keeps the closest blocks
+        offsets.sort(Comparator.<int[]>comparingInt(o -> o[2]).thenComparingInt(o -> o[0] * o[0] + o[1] * o[1]));
+
+        int[] table = new int[offsets.size() * 3];
+        for (int i = 0; i < offsets.size(); i++) {
+            int[] offset = toWorld(face, offsets.get(i)[0], offsets.get(i)[1], offsets.get(i)[2]);
+            table[i * 3] = offset[0];
+            table[i * 3 + 1] = offset[1];
+            table[i * 3 + 2] = offset[2];
+        }
+        return table;
+    }
+
+    /**
+     * Map plane coordinates (u, v) and depth d to a world offset
+     * The plane is perpendicular to the clicked face, depth goes away from it
+     */
+    private static int[] toWorld(BlockFace face, int u, int v, int d) {
+        return switch (face) {
+            // Clicked top or bottom -> horizontal plane on X-Z
+            case UP, DOWN -> new int[] { u, -face.getModY() * d, v };
+            // Clicked north/south face -> vertical plane on X-Y
+            case NORTH, SOUTH -> new int[] { u, v, -face.getModZ() * d };
+            // Clicked east/west face -> vertical plane on Z-Y
+            case EAST, WEST -> new int[] { -face.getModX() * d, v, u };
+            // Diagonal faces or SELF -> horizontal plane, digging down
+            default -> new int[] { u, -d, v };
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.Material;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Vanilla experience dropped by blocks broken without silk touch
+ * Ranges are inclusive and indexed by Material ordinal
+ */
+public final class BlockExperience {
+
+    private static final int[] MIN = new int[Material.values().length];
+    private static final int[] MAX = new int[Material.values().length];
+
+    static {
+        register(0, 2, Material.COAL_ORE, Material.DEEPSLATE_COAL_ORE);
+        register(0, 1, Material.NETHER_GOLD_ORE);
+        register(1, 5, Material.REDSTONE_ORE, Material.DEEPSLATE_REDSTONE_ORE);
+        register(2, 5, Material.LAPIS_ORE, Material.DEEPSLATE_LAPIS_ORE, Material.NETHER_QUARTZ_ORE);
+        register(3, 7, Material.DIAMOND_ORE, Material.DEEPSLATE_DIAMOND_ORE, Material.EMERALD_ORE,
+                Material.DEEPSLATE_EMERALD_ORE);
+        register(1, 1, Material.SCULK);
+        register(5, 5, Material.SCULK_CATALYST, Material.SCULK_SENSOR, Material.CALIBRATED_SCULK_SENSOR,
+                Material.SCULK_SHRIEKER);
+        register(15, 43, Material.SPAWNER);
+    }
+
+    private BlockExperience() {
+    }
+
+    /**
+     * Roll the experience a block drops
+     *
+     * @param silkTouch whether the tool has silk touch (no experience at all)
+     */
+    public static int roll(Material material, boolean silkTouch) {
+        int ordinal = material.ordinal();
+        if (silkTouch || MAX[ordinal] == 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextInt(MIN[ordinal], MAX[ordinal] + 1);
+    }
+
+    private static void register(int min, int max, Material... materials) {
+        for (Material material : materials) {
+            MIN[material.ordinal()] = min;
+            MAX[material.ordinal()] = max;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+/**
+ * Compact list of block positions to break, stored as packed longs
+ * Positions are kept in discovery order (closest to the origin first)
+ * and grouped into BFS depth layers
+ */
+public final class BlockPlan {
+
+    private final long[] positions;
+    private final int size;
+    private final int[] layerEnds;
+    private final int layerCount;
+
+    /**
+     * @param layerEnds  exclusive end index of each depth layer, ascending
+     * @param layerCount number of layers stored in layerEnds
+     */
+    public BlockPlan(long[] positions, int size, int[] layerEnds, int layerCount) {
+        this.positions = positions;
+        this.size = size;
+        this.layerEnds = layerEnds;
+        this.layerCount = layerCount;
+    }
+
+    /**
+     * Number of positions in this plan
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of BFS depth layers
+     */
+    public int layerCount() {
+        return layerCount;
+    }
+
+    /**
+     * Get the exclusive end index of the layer containing index
+     */
+    public int layerEndOf(int index) {
+        for (int layer = 0; layer < layerCount; layer++) {
+            if (layerEnds[layer] > index) {
+                return layerEnds[layer];
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Get packed position at index
+     */
+    public long get(int index) {
+        return positions[index];
+    }
+
+    /**
+     * Backing array of packed positions (only the first size entries are valid)
+     */
+    long[] positions() {
+        return positions;
+    }
+
+    /**
+     * Resolve the block at index in the given world
+     */
+    public Block getBlock(World world, int index) {
+        long packed = positions[index];
+        return world.getBlockAt(PackedPos.x(packed), PackedPos.y(packed), PackedPos.z(packed));
+    }
+}
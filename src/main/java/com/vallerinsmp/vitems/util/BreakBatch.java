@@ -0,0 +1,180 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Arrays;
+
+/**
+ * Collects the blocks broken by one swing or one scheduler tick and removes them together
+ *
+ * Blocks are sorted by chunk section so break particles can be emitted once
+ * per section instead of once per block. The order does not change block
+ * update packets: the server already sends every change made to a section
+ * in one tick as a single multi-block packet, in both modes.
+ *
+ * In BULK mode the interior of the
+ * removed set (blocks whose six neighbours are all removed too) is cleared
+ * with physics suppressed, then the surface is removed with full physics, so
+ * every block outside the set gets the vanilla neighbour and shape updates
+ * (supports, connections, observers, redstone, gravity blocks, fluids).
+ * Planes, veins and single-block ticks have no interior, so BULK only saves
+ * updates on 3D volumes. VANILLA mode removes each block with full physics.
+ * Main thread only.
+ */
+public final class BreakBatch {
+
+    private static final int[][] NEIGHBOURS = {
+            { 1, 0, 0 }, { -1, 0, 0 }, { 0, 1, 0 }, { 0, -1, 0 }, { 0, 0, 1 }, { 0, 0, -1 } };
+
+    private static final int PARTICLES_PER_BLOCK = 6;
+    private static final int MAX_PARTICLES_PER_SECTION = 64;
+
+    private final World world;
+    private final RemovalMode mode;
+    private final boolean particles;
+    private long[] keys = new long[16];
+    private int size;
+
+    public BreakBatch(World world, RemovalMode mode, boolean particles) {
+        this.world = world;
+        this.mode = mode;
+        this.particles = particles;
+    }
+
+    /**
+     * Queue a block for removal
+     */
+    public void add(Block block) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        keys[size++] = sectionKey(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Number of queued blocks
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove every queued block
+     */
+    public void flush() {
+        if (size == 0) {
+            return;
+        }
+
+        // Sorting the keys groups blocks by chunk section
+        Arrays.sort(keys, 0, size);
+        if (particles) {
+            emitParticles();
+        }
+
+        if (mode == RemovalMode.VANILLA) {
+            for (int i = 0; i < size; i++) {
+                world.getBlockAt(keyX(keys[i]), keyY(keys[i]), keyZ(keys[i])).setType(Material.AIR);
+            }
+            size = 0;
+            return;
+        }
+
+        LongHashSet removed = new LongHashSet(size);
+        for (int i = 0; i < size; i++) {
+            removed.add(PackedPos.pack(keyX(keys[i]), keyY(keys[i]), keyZ(keys[i])));
+        }
+
+        // Interior first: its updates could only reach blocks that are being removed anyway
+        boolean[] surface = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            int x = keyX(keys[i]), y = keyY(keys[i]), z = keyZ(keys[i]);
+            surface[i] = isSurface(removed, x, y, z);
+            if (!surface[i]) {
+                world.getBlockAt(x, y, z).setType(Material.AIR, false);
+            }
+        }
+
+        // Surface with physics, so the blocks around the set update as in vanilla
+        for (int i = 0; i < size; i++) {
+            if (surface[i]) {
+                world.getBlockAt(keyX(keys[i]), keyY(keys[i]), keyZ(keys[i])).setType(Material.AIR);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * One block-crack particle burst per section, spread over the broken blocks in it
+     * (textured with the first block of the section)
+     */
+    private void emitParticles() {
+        int start = 0;
+        while (start < size) {
+            long section = keys[start] >>> 12;
+            int end = start;
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+            while (end < size && keys[end] >>> 12 == section) {
+                int x = keyX(keys[end]), y = keyY(keys[end]), z = keyZ(keys[end]);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+                end++;
+            }
+
+            BlockData data = world.getBlockAt(keyX(keys[start]), keyY(keys[start]), keyZ(keys[start])).getBlockData();
+            Location center = new Location(world, (minX + maxX + 1) / 2.0, (minY + maxY + 1) / 2.0,
+                    (minZ + maxZ + 1) / 2.0);
+            int count = Math.min(PARTICLES_PER_BLOCK * (end - start), MAX_PARTICLES_PER_SECTION);
+            world.spawnParticle(Particle.BLOCK, center, count, (maxX - minX + 1) / 4.0, (maxY - minY + 1) / 4.0,
+                    (maxZ - minZ + 1) / 4.0, 0.0, data);
+            start = end;
+        }
+    }
+
+    /**
+     * Check if a removed block has a neighbour outside the removed set
+     */
+    private static boolean isSurface(LongHashSet removed, int x, int y, int z) {
+        for (int[] offset : NEIGHBOURS) {
+            if (!removed.contains(PackedPos.pack(x + offset[0], y + offset[1], z + offset[2]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reorder coordinate bits so that sorting groups blocks by section:
+     * section x (22) | section z (22) | section y (8) | local x, z, y (4 each)
+     */
+    private static long sectionKey(int x, int y, int z) {
+        return ((long) (x >> 4) & 0x3FFFFFL) << 42
+                | ((long) (z >> 4) & 0x3FFFFFL) << 20
+                | ((long) (y >> 4) & 0xFFL) << 12
+                | (long) (x & 15) << 8
+                | (long) (z & 15) << 4
+                | (y & 15);
+    }
+
+    private static int keyX(long key) {
+        return (int) (key >> 42) << 4 | (int) (key >>> 8 & 15);
+    }
+
+    private static int keyZ(long key) {
+        return (int) (key << 22 >> 42) << 4 | (int) (key >>> 4 & 15);
+    }
+
+    private static int keyY(long key) {
+        return (int) (key << 44 >> 56) << 4 | (int) (key & 15);
+    }
+}
@@ -0,0 +1,77 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Collects the drops of one break operation and merges identical stacks
+ * up to their max stack size, so they spawn as few item entities as possible
+ * Main thread only.
+ */
+public final class DropAccumulator {
+
+    private final List<ItemStack> stacks = new ArrayList<>();
+
+    /**
+     * Merge the drops of one block
+     */
+    public void add(Collection<ItemStack> drops) {
+        for (ItemStack drop : drops) {
+            add(drop);
+        }
+    }
+
+    /**
+     * Merge a single stack (the stack itself is never kept)
+     */
+    public void add(ItemStack drop) {
+        if (drop == null || drop.getType().isAir() || drop.getAmount() <= 0) {
+            return;
+        }
+
+        // Top up existing stacks first
+        int remaining = drop.getAmount();
+        for (int i = 0; i < stacks.size() && remaining > 0; i++) {
+            ItemStack stack = stacks.get(i);
+            int space = stack.getMaxStackSize() - stack.getAmount();
+            if (space > 0 && stack.isSimilar(drop)) {
+                int moved = Math.min(space, remaining);
+                stack.setAmount(stack.getAmount() + moved);
+                remaining -= moved;
+            }
+        }
+
+        while (remaining > 0) {
+            ItemStack stack = drop.clone();
+            stack.setAmount(Math.min(remaining, drop.getMaxStackSize()));
+            remaining -= stack.getAmount();
+            stacks.add(stack);
+        }
+    }
+
+    /**
+     * Check if nothing has been collected since the last drain
+     */
+    public boolean isEmpty() {
+        return stacks.isEmpty();
+    }
+
+    /**
+     * Number of merged stacks collected since the last drain
+     */
+    public int size() {
+        return stacks.size();
+    }
+
+    /**
+     * Take the merged stacks and reset the accumulator
+     */
+    public List<ItemStack> drain() {
+        List<ItemStack> drained = new ArrayList<>(stacks);
+        stacks.clear();
+        return drained;
+    }
+}
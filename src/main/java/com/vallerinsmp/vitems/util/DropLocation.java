@@ -0,0 +1,25 @@
+package com.vallerinsmp.vitems.util;
+
+/**
+ * Where tools spawn the merged drops of an operation
+ */
+public enum DropLocation {
+    /** At the block the operation started from */
+    BLOCK,
+    /** At the player's feet */
+    PLAYER;
+
+    /**
+     * Get DropLocation from config value, or null if unknown
+     */
+    public static DropLocation parse(String value) {
+        if (value != null) {
+            for (DropLocation location : values()) {
+                if (location.name().equalsIgnoreCase(value.trim())) {
+                    return location;
+                }
+            }
+        }
+        return null;
+    }
+}
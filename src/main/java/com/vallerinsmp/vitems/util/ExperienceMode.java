@@ -0,0 +1,27 @@
+package com.vallerinsmp.vitems.util;
+
+/**
+ * How tools hand out the experience of the blocks they break
+ */
+public enum ExperienceMode {
+    /** No experience */
+    NONE,
+    /** One merged orb at the drop location */
+    ORB,
+    /** Straight to the player, repairing the held tool with mending first */
+    PLAYER;
+
+    /**
+     * Get ExperienceMode from config value, or null if unknown
+     */
+    public static ExperienceMode parse(String value) {
+        if (value != null) {
+            for (ExperienceMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(value.trim())) {
+                    return mode;
+                }
+            }
+        }
+        return null;
+    }
+}
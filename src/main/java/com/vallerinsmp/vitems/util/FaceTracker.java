@@ -0,0 +1,135 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.block.BlockFace;
+
+import java.util.Arrays;
+
+/**
+ * Remembers the last block face each player started digging
+ * Open-addressing map keyed by entity id with primitive value arrays,
+ * so recording and reading a sample allocates nothing (main thread only)
+ */
+public final class FaceTracker {
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final BlockFace[] FACES = BlockFace.values();
+
+    private int[] keys;
+    private long[] positions;
+    private int[] faces;
+    private int[] ticks;
+    private int mask;
+    private int size;
+
+    public FaceTracker() {
+        allocate(64);
+    }
+
+    /**
+     * Record the face a player clicked on a block
+     */
+    public void record(int entityId, long packedPos, BlockFace face, int tick) {
+        int slot = find(entityId);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = entityId;
+            size++;
+        }
+        positions[slot] = packedPos;
+        faces[slot] = face.ordinal();
+        ticks[slot] = tick;
+
+        if (size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Get the recorded face for a block, or null if there is no recent sample for it
+     */
+    public BlockFace get(int entityId, long packedPos, int tick, int maxAgeTicks) {
+        int slot = find(entityId);
+        if (keys[slot] == EMPTY || positions[slot] != packedPos || tick - ticks[slot] > maxAgeTicks) {
+            return null;
+        }
+        return FACES[faces[slot]];
+    }
+
+    /**
+     * Forget a player (on quit)
+     */
+    public void remove(int entityId) {
+        int slot = find(entityId);
+        if (keys[slot] == EMPTY) {
+            return;
+        }
+
+        // Backward-shift deletion keeps probe chains intact
+        keys[slot] = EMPTY;
+        size--;
+        int next = (slot + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int key = keys[next];
+            int ideal = hash(key);
+            boolean movable = slot <= next ? (ideal <= slot || ideal > next) : (ideal <= slot && ideal > next);
+            if (movable) {
+                keys[slot] = key;
+                positions[slot] = positions[next];
+                faces[slot] = faces[next];
+                ticks[slot] = ticks[next];
+                keys[next] = EMPTY;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    /**
+     * Forget every player
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private int find(int entityId) {
+        int slot = hash(entityId);
+        while (keys[slot] != EMPTY && keys[slot] != entityId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        positions = new long[capacity];
+        faces = new int[capacity];
+        ticks = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        long[] oldPositions = positions;
+        int[] oldFaces = faces;
+        int[] oldTicks = ticks;
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                positions[slot] = oldPositions[i];
+                faces[slot] = oldFaces[i];
+                ticks[slot] = oldTicks[i];
+                size++;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.vallerinsmp.vitems.util;
+
+/**
+ * Breadth-first flood fill over block coordinates
+ * Works on packed longs only: no Block objects and no boxing per visited node
+ */
+public final class FloodFill {
+
+    /**
+     * Decides whether a coordinate belongs to the filled region
+     */
+    @FunctionalInterface
+    public interface Matcher {
+        boolean matches(int x, int y, int z);
+    }
+
+    private FloodFill() {
+    }
+
+    /**
+     * Find up to maxBlocks connected matching blocks starting at (x, y, z)
+     * Checks all 26 surrounding blocks (3x3x3 minus center) of every node
+     *
+     * The start position is always included. Memory is bounded by maxBlocks:
+     * the plan array doubles as the FIFO queue, and since BFS polls nodes in
+     * the order they were queued, nothing past maxBlocks ever needs storing.
+     * Depth layers are recorded as they close, so the plan can be broken
+     * one wavefront at a time.
+     */
+    public static BlockPlan search(int x, int y, int z, int maxBlocks, Matcher matcher) {
+        int limit = Math.max(1, maxBlocks);
+        long[] plan = new long[limit];
+        int[] layerEnds = new int[limit];
+        int layers = 0;
+        LongHashSet visited = new LongHashSet(limit);
+
+        long start = PackedPos.pack(x, y, z);
+        plan[0] = start;
+        visited.add(start);
+        int tail = 1;
+        int layerEnd = 1;
+
+        for (int head = 0; head < tail && tail < limit; head++) {
+            // Every node of the previous layer is queued once its parents are done
+            if (head == layerEnd) {
+                layerEnds[layers++] = layerEnd;
+                layerEnd = tail;
+            }
+
+            long current = plan[head];
+            int cx = PackedPos.x(current);
+            int cy = PackedPos.y(current);
+            int cz = PackedPos.z(current);
+
+            for (int dx = -1; dx <= 1 && tail < limit; dx++) {
+                for (int dy = -1; dy <= 1 && tail < limit; dy++) {
+                    for (int dz = -1; dz <= 1 && tail < limit; dz++) {
+                        if (dx == 0 && dy == 0 && dz == 0)
+                            continue;
+
+                        int nx = cx + dx;
+                        int ny = cy + dy;
+                        int nz = cz + dz;
+                        long neighbor = PackedPos.pack(nx, ny, nz);
+
+                        if (!visited.contains(neighbor) && matcher.matches(nx, ny, nz)) {
+                            visited.add(neighbor);
+                            plan[tail++] = neighbor;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Close the current layer and the partially queued one after it
+        layerEnds[layers++] = layerEnd;
+        if (tail > layerEnd) {
+            layerEnds[layers++] = tail;
+        }
+
+        return new BlockPlan(plan, tail, layerEnds, layers);
+    }
+}
@@ -1,5 +1,8 @@
 package com.vallerinsmp.vitems.util;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum representing all custom item types in vItems
  */
@@ -9,6 +12,14 @@ public enum ItemType {
     VEINMINER("veinminer", "veinminer"),
     TREE_CAPITATOR("treecapitator", "tree_capitator");
 
+    private static final Map<String, ItemType> BY_NBT = new HashMap<>();
+
+    static {
+        for (ItemType type : values()) {
+            BY_NBT.put(type.getNbtIdentifier(), type);
+        }
+    }
+
     private final String nbtKey;
     private final String configKey;
 
@@ -35,17 +46,7 @@ public enum ItemType {
      * Get ItemType from NBT identifier
      */
     public static ItemType fromNbt(String nbtValue) {
-        if (nbtValue == null || !nbtValue.startsWith("vitems:")) {
-            return null;
-        }
-        
-        String key = nbtValue.substring(7); // Remove "vitems:" prefix
-        for (ItemType type : values()) {
-            if (type.nbtKey.equals(key)) {
-                return type;
-            }
-        }
-        return null;
+        return nbtValue == null ? null : BY_NBT.get(nbtValue);
     }
 
     /**
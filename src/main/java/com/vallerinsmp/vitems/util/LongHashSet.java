@@ -0,0 +1,94 @@
+package com.vallerinsmp.vitems.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash set of primitive longs (linear probing)
+ * Sized once for an expected number of entries, grows only if exceeded
+ */
+public final class LongHashSet {
+
+    // Never produced by PackedPos for coordinates inside the world border
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] table;
+    private int mask;
+    private int size;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(table, EMPTY);
+    }
+
+    /**
+     * Add a value to the set
+     *
+     * @return true if the value was not already present
+     */
+    public boolean add(long value) {
+        int slot = slot(value);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = value;
+        size++;
+        if (size * 2 > table.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Check if the set contains a value
+     */
+    public boolean contains(long value) {
+        int slot = slot(value);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Remove all values, keeping the allocated table
+     */
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int slot(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+        Arrays.fill(table, EMPTY);
+        size = 0;
+        for (long value : old) {
+            if (value != EMPTY) {
+                add(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled set of block materials, one bit per Material ordinal
+ *
+ * Built from a config section with:
+ * - tags: Bukkit Tag field names (MINEABLE_PICKAXE) or keys (minecraft:mineable/pickaxe)
+ * - patterns: name globs (*_ORE, *STONE*)
+ * - include: explicit materials
+ * - exclude: materials or globs removed from the result
+ *
+ * Bukkit fills keys missing from the server's config with the bundled
+ * defaults, so once the server sets any of these keys, the unset ones
+ * count as empty instead of inheriting the bundled lists.
+ */
+public final class MaterialFilter {
+
+    private static final List<String> KEYS = List.of("tags", "patterns", "include", "exclude");
+
+    private static final MaterialFilter EMPTY = new MaterialFilter(new long[(Material.values().length + 63) >>> 6]);
+
+    private final long[] bits;
+
+    private MaterialFilter(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Filter that matches nothing
+     */
+    public static MaterialFilter empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Check if a material is part of this filter
+     */
+    public boolean contains(Material material) {
+        int ordinal = material.ordinal();
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Compile a filter from a config section
+     *
+     * @param warnings receives a message for every rule that could not be resolved
+     */
+    public static MaterialFilter compile(ConfigurationSection section, Consumer<String> warnings) {
+        if (section == null) {
+            return EMPTY;
+        }
+
+        boolean custom = false;
+        for (String key : KEYS) {
+            custom |= section.isSet(key);
+        }
+
+        Material[] materials = Material.values();
+        long[] bits = new long[(materials.length + 63) >>> 6];
+
+        // Tags
+        for (String tagName : readList(section, "tags", custom)) {
+            Tag<Material> tag = resolveTag(tagName);
+            if (tag == null) {
+                warnings.accept("Unknown block tag '" + tagName + "'");
+                continue;
+            }
+            for (Material material : tag.getValues()) {
+                set(bits, material);
+            }
+        }
+
+        // Name globs
+        for (String glob : readList(section, "patterns", custom)) {
+            Pattern pattern = toPattern(glob);
+            for (Material material : materials) {
+                if (isBlock(material) && pattern.matcher(material.name()).matches()) {
+                    set(bits, material);
+                }
+            }
+        }
+
+        // Explicit materials
+        for (String name : readList(section, "include", custom)) {
+            Material material = Material.matchMaterial(name);
+            if (material == null || !material.isBlock()) {
+                warnings.accept("Unknown block material '" + name + "'");
+                continue;
+            }
+            set(bits, material);
+        }
+
+        // Exclusions (materials or globs)
+        List<String> excludes = readList(section, "exclude", custom);
+        for (String exclude : excludes) {
+            Pattern pattern = toPattern(exclude);
+            for (Material material : materials) {
+                if (pattern.matcher(material.name()).matches()) {
+                    int ordinal = material.ordinal();
+                    bits[ordinal >>> 6] &= ~(1L << ordinal);
+                }
+            }
+        }
+
+        return new MaterialFilter(bits);
+    }
+
+    /**
+     * Read a rule list, ignoring the bundled default when the server config
+     * defines its own rules
+     */
+    private static List<String> readList(ConfigurationSection section, String key, boolean custom) {
+        if (custom && !section.isSet(key)) {
+            return List.of();
+        }
+        return section.getStringList(key);
+    }
+
+    private static void set(long[] bits, Material material) {
+        int ordinal = material.ordinal();
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    private static boolean isBlock(Material material) {
+        return material.isBlock() && !material.name().startsWith("LEGACY_");
+    }
+
+    /**
+     * Resolve a Tag field name (LOGS) or namespaced block tag key (minecraft:logs)
+     */
+    @SuppressWarnings("unchecked")
+    private static Tag<Material> resolveTag(String name) {
+        if (name.indexOf(':') >= 0 || name.indexOf('/') >= 0) {
+            NamespacedKey key = NamespacedKey.fromString(name.toLowerCase(Locale.ROOT));
+            return key == null ? null : Bukkit.getTag(Tag.REGISTRY_BLOCKS, key, Material.class);
+        }
+
+        try {
+            Field field = Tag.class.getField(name.toUpperCase(Locale.ROOT));
+            Object value = field.get(null);
+            if (value instanceof Tag<?> tag && tag.getValues().stream().allMatch(v -> v instanceof Material)) {
+                return (Tag<Material>) tag;
+            }
+        } catch (ReflectiveOperationException ignored) {
+            // Fall through to unknown tag
+        }
+        return null;
+    }
+
+    /**
+     * Convert a glob (* and ?) into a case-insensitive pattern on material names
+     */
+    private static Pattern toPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.toUpperCase(Locale.ROOT).split("(?=[*?])|(?<=[*?])")) {
+            switch (part) {
+                case "*" -> regex.append(".*");
+                case "?" -> regex.append('.');
+                default -> regex.append(Pattern.quote(part));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
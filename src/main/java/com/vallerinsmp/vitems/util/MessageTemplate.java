@@ -0,0 +1,153 @@
+package com.vallerinsmp.vitems.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A message from messages.yml parsed once at reload
+ *
+ * %placeholders% are bound through tag resolvers that insert marker
+ * components; rendering swaps the markers for the values without parsing
+ * MiniMessage again. Messages using placeholders inside tag arguments
+ * (e.g. click commands) cannot be pre-parsed and keep the old
+ * replace-then-parse behaviour.
+ */
+public final class MessageTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("%([a-zA-Z0-9_-]+)%");
+    // Private-use character, starts the text of every placeholder marker
+    private static final char MARKER = '\uE000';
+
+    private final MiniMessage miniMessage;
+    private final String source;
+    private final Component component;
+
+    private MessageTemplate(MiniMessage miniMessage, String source, Component component) {
+        this.miniMessage = miniMessage;
+        this.source = source;
+        this.component = component;
+    }
+
+    /**
+     * Compile a raw MiniMessage string (the prefix must already be inlined)
+     *
+     * @param miniMessage parser without a compacting post-processor; compaction would merge
+     *                    a marker with the text after it and hide the rest of the message
+     */
+    public static MessageTemplate compile(MiniMessage miniMessage, String source) {
+        Set<String> keys = new LinkedHashSet<>();
+        int occurrences = 0;
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        StringBuilder tagged = new StringBuilder();
+        while (matcher.find()) {
+            String key = matcher.group(1).toLowerCase(Locale.ROOT);
+            keys.add(key);
+            occurrences++;
+            matcher.appendReplacement(tagged, Matcher.quoteReplacement("<" + key + ">"));
+        }
+        matcher.appendTail(tagged);
+
+        if (keys.isEmpty()) {
+            return new MessageTemplate(miniMessage, source, miniMessage.deserialize(source));
+        }
+
+        TagResolver.Builder resolvers = TagResolver.builder();
+        for (String key : keys) {
+            resolvers.resolver(TagResolver.resolver(key, Tag.selfClosingInserting(Component.text(MARKER + key))));
+        }
+        Component parsed = miniMessage.deserialize(tagged.toString(), resolvers.build());
+
+        // A placeholder swallowed by a tag argument never becomes a marker
+        if (countMarkers(parsed, keys) != occurrences) {
+            return new MessageTemplate(miniMessage, source, null);
+        }
+        return new MessageTemplate(miniMessage, source, parsed);
+    }
+
+    /**
+     * Render with placeholder values keyed like "%time%"
+     */
+    public Component render(Map<String, ? extends ComponentLike> placeholders) {
+        if (component == null) {
+            return renderDynamic(placeholders);
+        }
+        if (placeholders == null || placeholders.isEmpty()) {
+            return component;
+        }
+        return replaceMarkers(component, placeholders);
+    }
+
+    private Component renderDynamic(Map<String, ? extends ComponentLike> placeholders) {
+        String message = source;
+        if (placeholders != null) {
+            for (Map.Entry<String, ? extends ComponentLike> entry : placeholders.entrySet()) {
+                message = message.replace(entry.getKey(),
+                        miniMessage.serialize(entry.getValue().asComponent()));
+            }
+        }
+        return miniMessage.deserialize(message);
+    }
+
+    private static Component replaceMarkers(Component node, Map<String, ? extends ComponentLike> placeholders) {
+        List<Component> children = node.children();
+        if (node instanceof TextComponent text && isMarker(text)) {
+            String key = "%" + text.content().substring(1) + "%";
+            ComponentLike value = placeholders.get(key);
+            Component replaced = value == null ? Component.text(key) : value.asComponent();
+            if (children.isEmpty()) {
+                return replaced.applyFallbackStyle(text.style());
+            }
+
+            // Keep anything attached to the marker, styled as before
+            List<Component> rendered = new ArrayList<>(children.size() + 1);
+            rendered.add(replaced);
+            for (Component child : children) {
+                rendered.add(replaceMarkers(child, placeholders));
+            }
+            return Component.text("", text.style()).children(rendered);
+        }
+
+        if (children.isEmpty()) {
+            return node;
+        }
+
+        List<Component> rendered = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component replaced = replaceMarkers(child, placeholders);
+            if (replaced != child && rendered == null) {
+                rendered = new ArrayList<>(children.subList(0, i));
+            }
+            if (rendered != null) {
+                rendered.add(replaced);
+            }
+        }
+        return rendered == null ? node : node.children(rendered);
+    }
+
+    private static int countMarkers(Component node, Set<String> keys) {
+        int count = node instanceof TextComponent text && isMarker(text)
+                && keys.contains(text.content().substring(1)) ? 1 : 0;
+        for (Component child : node.children()) {
+            count += countMarkers(child, keys);
+        }
+        return count;
+    }
+
+    private static boolean isMarker(TextComponent text) {
+        return !text.content().isEmpty() && text.content().charAt(0) == MARKER;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vallerinsmp.vitems.util;
+
+/**
+ * Packs block coordinates into a single long (same layout as vanilla BlockPos)
+ * x: 26 bits, z: 26 bits, y: 12 bits
+ */
+public final class PackedPos {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+    private static final int Z_SHIFT = Y_BITS;
+
+    private PackedPos() {
+    }
+
+    /**
+     * Pack block coordinates into a long
+     */
+    public static long pack(int x, int y, int z) {
+        return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+    }
+
+    /**
+     * Get X coordinate from packed position
+     */
+    public static int x(long packed) {
+        return (int) (packed >> X_SHIFT);
+    }
+
+    /**
+     * Get Y coordinate from packed position
+     */
+    public static int y(long packed) {
+        return (int) (packed << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    /**
+     * Get Z coordinate from packed position
+     */
+    public static int z(long packed) {
+        return (int) (packed << (64 - X_SHIFT) >> (64 - XZ_BITS));
+    }
+}
@@ -0,0 +1,79 @@
+package com.vallerinsmp.vitems.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of 16x16x16 chunk sections touched by at least one protected region
+ * in a single world. Small regions are stored section by section; regions
+ * larger than LARGE_REGION_SECTIONS are kept as boxes to bound memory.
+ * Remembers the region manager and region count it was built from, so
+ * regions added or removed through any path make it stale.
+ */
+public class ProtectedSectionIndex {
+
+    private static final long LARGE_REGION_SECTIONS = 4096;
+
+    private final LongHashSet sections = new LongHashSet(256);
+    private final List<int[]> largeBoxes = new ArrayList<>();
+    private final Object source;
+    private final int regionCount;
+
+    public ProtectedSectionIndex(Object source, int regionCount) {
+        this.source = source;
+        this.regionCount = regionCount;
+    }
+
+    /**
+     * Mark every section overlapped by a block-coordinate box
+     */
+    public void addRegion(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int minSectionX = minX >> 4, minSectionY = minY >> 4, minSectionZ = minZ >> 4;
+        int maxSectionX = maxX >> 4, maxSectionY = maxY >> 4, maxSectionZ = maxZ >> 4;
+
+        long volume = (long) (maxSectionX - minSectionX + 1)
+                * (maxSectionY - minSectionY + 1)
+                * (maxSectionZ - minSectionZ + 1);
+        if (volume > LARGE_REGION_SECTIONS) {
+            largeBoxes.add(new int[] { minSectionX, minSectionY, minSectionZ, maxSectionX, maxSectionY, maxSectionZ });
+            return;
+        }
+
+        for (int x = minSectionX; x <= maxSectionX; x++) {
+            for (int y = minSectionY; y <= maxSectionY; y++) {
+                for (int z = minSectionZ; z <= maxSectionZ; z++) {
+                    sections.add(PackedPos.pack(x, y, z));
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the section containing a block may be protected
+     */
+    public boolean isProtected(int blockX, int blockY, int blockZ) {
+        if (sections.isEmpty() && largeBoxes.isEmpty()) {
+            return false;
+        }
+
+        int sectionX = blockX >> 4, sectionY = blockY >> 4, sectionZ = blockZ >> 4;
+        if (sections.contains(PackedPos.pack(sectionX, sectionY, sectionZ))) {
+            return true;
+        }
+
+        for (int[] box : largeBoxes) {
+            if (sectionX >= box[0] && sectionY >= box[1] && sectionZ >= box[2]
+                    && sectionX <= box[3] && sectionY <= box[4] && sectionZ <= box[5]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if this index was built from the given region manager state
+     */
+    public boolean isBuiltFrom(Object source, int regionCount) {
+        return this.source == source && this.regionCount == regionCount;
+    }
+}
@@ -0,0 +1,28 @@
+package com.vallerinsmp.vitems.util;
+
+/**
+ * How tools remove the blocks they break
+ */
+public enum RemovalMode {
+    /** setType(AIR) per block, full physics for every block */
+    VANILLA,
+    /**
+     * Remove the interior of the batch without physics and its surface with full physics
+     * Only saves updates on 3D volumes; planes, veins and single blocks are all surface
+     */
+    BULK;
+
+    /**
+     * Get RemovalMode from config value, or null if unknown
+     */
+    public static RemovalMode parse(String value) {
+        if (value != null) {
+            for (RemovalMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(value.trim())) {
+                    return mode;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Thread-safe block type reader backed by ChunkSnapshots
+ * Meant to be used by a single async worker; chunks that were not preloaded
+ * are snapshotted on the main thread on demand. Unloaded chunks read as AIR
+ * so a search never forces a chunk load.
+ */
+public class SnapshotBlockAccess {
+
+    private static final long FETCH_TIMEOUT_SECONDS = 5;
+
+    private final Plugin plugin;
+    private final World world;
+    private final int minY;
+    private final int maxY;
+    private final Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+
+    // Last chunk looked up, most probes hit the same chunk
+    private long lastKey = Long.MIN_VALUE;
+    private ChunkSnapshot lastSnapshot;
+
+    /**
+     * Must be created on the main thread
+     */
+    public SnapshotBlockAccess(Plugin plugin, World world) {
+        this.plugin = plugin;
+        this.world = world;
+        this.minY = world.getMinHeight();
+        this.maxY = world.getMaxHeight();
+    }
+
+    /**
+     * Snapshot the chunk holding a block ahead of the search (main thread only)
+     * Neighbouring chunks are only snapshotted if the search reaches them
+     */
+    public void preload(int blockX, int blockZ) {
+        int chunkX = blockX >> 4;
+        int chunkZ = blockZ >> 4;
+        snapshots.put(chunkKey(chunkX, chunkZ), snapshotIfLoaded(chunkX, chunkZ));
+    }
+
+    /**
+     * Get block type at world coordinates
+     */
+    public Material getType(int x, int y, int z) {
+        if (y < minY || y >= maxY) {
+            return Material.VOID_AIR;
+        }
+
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        long key = chunkKey(chunkX, chunkZ);
+
+        ChunkSnapshot snapshot;
+        if (key == lastKey) {
+            snapshot = lastSnapshot;
+        } else {
+            if (snapshots.containsKey(key)) {
+                snapshot = snapshots.get(key);
+            } else {
+                // Unloaded chunks are cached as null so they are only fetched once
+                snapshot = fetch(chunkX, chunkZ);
+                snapshots.put(key, snapshot);
+            }
+            lastKey = key;
+            lastSnapshot = snapshot;
+        }
+
+        if (snapshot == null) {
+            return Material.AIR; // Chunk not loaded
+        }
+        return snapshot.getBlockType(x & 15, y, z & 15);
+    }
+
+    /**
+     * Snapshot a chunk on the main thread, blocking the calling worker
+     */
+    private ChunkSnapshot fetch(int chunkX, int chunkZ) {
+        if (Bukkit.isPrimaryThread()) {
+            return snapshotIfLoaded(chunkX, chunkZ);
+        }
+        if (!plugin.isEnabled()) {
+            return null;
+        }
+
+        try {
+            return Bukkit.getScheduler()
+                    .callSyncMethod(plugin, () -> snapshotIfLoaded(chunkX, chunkZ))
+                    .get(FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (TimeoutException e) {
+            plugin.getLogger().warning("Main thread did not snapshot chunk " + chunkX + "," + chunkZ + " in "
+                    + FETCH_TIMEOUT_SECONDS + "s, the block search stops at it");
+            return null;
+        } catch (Exception e) {
+            // Plugin disabled while waiting, treat as unloaded
+            return null;
+        }
+    }
+
+    private ChunkSnapshot snapshotIfLoaded(int chunkX, int chunkZ) {
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            return null;
+        }
+        return world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
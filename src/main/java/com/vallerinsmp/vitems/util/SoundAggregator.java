@@ -0,0 +1,85 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.Arrays;
+
+/**
+ * Collapses the break sounds of one operation tick into one sound per sound group
+ *
+ * Each distinct sound plays once, at the centroid of the blocks that produced
+ * it, with its volume growing with the square root of the block count up to
+ * a cap. Sound packets stay constant no matter how many blocks a tick breaks.
+ * Main thread only.
+ */
+public final class SoundAggregator {
+
+    private final World world;
+    private final float volume;
+    private final float maxVolume;
+    private Sound[] sounds = new Sound[4];
+    private int[] counts = new int[4];
+    private double[] sums = new double[12];
+    private int size;
+
+    /**
+     * @param volume    volume of a single block's sound (0 disables sounds)
+     * @param maxVolume cap for the volume of a merged sound
+     */
+    public SoundAggregator(World world, float volume, float maxVolume) {
+        this.world = world;
+        this.volume = volume;
+        this.maxVolume = maxVolume;
+    }
+
+    /**
+     * Record a block's break sound
+     */
+    public void add(Sound sound, Block block) {
+        if (volume <= 0.0f) {
+            return;
+        }
+
+        // Operations rarely mix more than one or two sound groups
+        int slot = 0;
+        while (slot < size && sounds[slot] != sound) {
+            slot++;
+        }
+        if (slot == size) {
+            if (size == sounds.length) {
+                sounds = Arrays.copyOf(sounds, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+                sums = Arrays.copyOf(sums, size * 6);
+            }
+            sounds[slot] = sound;
+            counts[slot] = 0;
+            sums[slot * 3] = 0.0;
+            sums[slot * 3 + 1] = 0.0;
+            sums[slot * 3 + 2] = 0.0;
+            size++;
+        }
+
+        counts[slot]++;
+        sums[slot * 3] += block.getX() + 0.5;
+        sums[slot * 3 + 1] += block.getY() + 0.5;
+        sums[slot * 3 + 2] += block.getZ() + 0.5;
+    }
+
+    /**
+     * Play the merged sounds recorded since the last flush
+     */
+    public void flush() {
+        for (int i = 0; i < size; i++) {
+            int count = counts[i];
+            Location centroid = new Location(world, sums[i * 3] / count, sums[i * 3 + 1] / count,
+                    sums[i * 3 + 2] / count);
+            float merged = Math.min(maxVolume, volume * (float) Math.sqrt(count));
+            world.playSound(centroid, sounds[i], merged, 1.0f);
+            sounds[i] = null;
+        }
+        size = 0;
+    }
+}
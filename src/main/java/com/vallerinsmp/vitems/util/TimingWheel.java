@@ -0,0 +1,122 @@
+package com.vallerinsmp.vitems.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (main thread only)
+ *
+ * Level 0 has 64 slots of TICK_MILLIS, each higher level 64 slots of the
+ * full span of the level below. Advancing only visits the slots that came
+ * due and cascades a higher-level slot down when its turn comes, so the cost
+ * is proportional to elapsed time and expiring entries, not to the number
+ * of scheduled entries.
+ */
+public final class TimingWheel<T> {
+
+    private static final int TICK_MILLIS = 50;
+    private static final int SLOTS = 64;
+    private static final int SLOT_BITS = 6;
+    private static final int LEVELS = 4;
+
+    private final Node<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long nowMillis) {
+        this.wheels = new Node[LEVELS][SLOTS];
+        this.currentTick = nowMillis / TICK_MILLIS;
+    }
+
+    /**
+     * Schedule a value to expire at a deadline (same clock as advance)
+     */
+    public void schedule(long deadlineMillis, T value) {
+        place(new Node<>(deadlineMillis, value), currentTick + 1);
+        size++;
+    }
+
+    /**
+     * Move the wheel up to now, handing every expired value to the consumer
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / TICK_MILLIS;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // Cascade higher levels whose slot boundary was reached, highest first
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+                    Node<T> node = wheels[level][slot];
+                    wheels[level][slot] = null;
+                    while (node != null) {
+                        Node<T> next = node.next;
+                        node.next = null;
+                        place(node, currentTick);
+                        node = next;
+                    }
+                }
+            }
+
+            int slot = (int) (currentTick & (SLOTS - 1));
+            Node<T> node = wheels[0][slot];
+            wheels[0][slot] = null;
+            while (node != null) {
+                size--;
+                expired.accept(node.value);
+                node = node.next;
+            }
+        }
+    }
+
+    /**
+     * Number of scheduled values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Drop every scheduled value
+     */
+    public void clear() {
+        for (Node<T>[] wheel : wheels) {
+            Arrays.fill(wheel, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Link a node into the slot of its deadline, never earlier than minTick
+     * (the current slot is only valid while cascading, before it is expired)
+     */
+    private void place(Node<T> node, long minTick) {
+        long tick = Math.max((node.deadline + TICK_MILLIS - 1) / TICK_MILLIS, minTick);
+
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            long distance = (tick >>> shift) - (currentTick >>> shift);
+            if (distance < SLOTS || level == LEVELS - 1) {
+                // Beyond the top level: park in the furthest slot and cascade again later
+                long bucket = distance < SLOTS ? tick >>> shift : (currentTick >>> shift) + SLOTS - 1;
+                int slot = (int) (bucket & (SLOTS - 1));
+                node.next = wheels[level][slot];
+                wheels[level][slot] = node;
+                return;
+            }
+        }
+    }
+
+    private static final class Node<T> {
+        private final long deadline;
+        private final T value;
+        private Node<T> next;
+
+        private Node(long deadline, T value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.function.Consumer;
+
+/**
+ * Compiled, immutable settings of one tool (tools.<tool> in config.yml)
+ * Built once per reload so the break path only reads plain fields
+ */
+public record ToolSettings(
+        boolean enabled,
+        int maxBlocks,
+        boolean hasCooldown,
+        double cooldownSeconds,
+        AreaShape shape,
+        MaterialFilter materials,
+        AnimationMode animationMode,
+        int animationDelayTicks,
+        int minBlocksPerTick,
+        int maxBlocksPerTick,
+        RemovalMode removalMode,
+        boolean breakParticles,
+        double breakSoundVolume,
+        double breakSoundMaxVolume,
+        DropLocation dropLocation,
+        int dropDelayTicks,
+        boolean collect,
+        ExperienceMode experience) {
+
+    /**
+     * Settings used when a tool has no valid configuration at all
+     */
+    public static final ToolSettings DEFAULTS = new ToolSettings(
+            true, 9,
+            false, 0.0,
+            AreaShape.DEFAULT,
+            MaterialFilter.empty(),
+            AnimationMode.FIXED, 2, 1, 8,
+            RemovalMode.VANILLA,
+            true,
+            1.0, 2.0,
+            DropLocation.BLOCK, 0,
+            false,
+            ExperienceMode.ORB);
+
+    /**
+     * Compile a tool section, rejecting invalid values
+     *
+     * @param fallback provides the value of every rejected or missing key
+     * @param warnings receives a message for every rejected value
+     */
+    public static ToolSettings compile(ConfigurationSection section, ToolSettings fallback,
+            Consumer<String> warnings) {
+        if (section == null) {
+            warnings.accept("Missing section, keeping previous settings");
+            return fallback;
+        }
+
+        boolean enabled = readBoolean(section, "enabled", fallback.enabled(), warnings);
+        int maxBlocks = readInt(section, "max-blocks", 1, fallback.maxBlocks(), warnings);
+        boolean hasCooldown = readBoolean(section, "has-cooldown", fallback.hasCooldown(), warnings);
+        double cooldownSeconds = readDouble(section, "cooldown-seconds", 0.0, fallback.cooldownSeconds(), warnings);
+
+        AreaShape shape = fallback.shape();
+        if (section.contains("shape")) {
+            try {
+                shape = AreaShape.parse(section.getString("shape", ""));
+            } catch (IllegalArgumentException e) {
+                warnings.accept("shape: " + e.getMessage());
+            }
+        }
+
+        // Area tools break the closest max-blocks blocks of the shape, anything past that is cut
+        if (section.contains("shape") && shape.volume() > maxBlocks) {
+            warnings.accept("shape '" + section.getString("shape") + "' has " + shape.volume()
+                    + " blocks but max-blocks is " + maxBlocks + ", only the " + maxBlocks
+                    + " blocks closest to the center are broken");
+        }
+
+        MaterialFilter materials = MaterialFilter.compile(section.getConfigurationSection("materials"),
+                warning -> warnings.accept("materials: " + warning));
+
+        AnimationMode animationMode = fallback.animationMode();
+        if (section.contains("animation-mode")) {
+            AnimationMode parsed = AnimationMode.parse(section.getString("animation-mode", ""));
+            if (parsed == null) {
+                warnings.accept("animation-mode: unknown mode '" + section.getString("animation-mode") + "'");
+            } else {
+                animationMode = parsed;
+            }
+        }
+
+        int animationDelayTicks = readInt(section, "animation-delay-ticks", 1, fallback.animationDelayTicks(),
+                warnings);
+        int minBlocksPerTick = readInt(section, "min-blocks-per-tick", 1, fallback.minBlocksPerTick(), warnings);
+        int maxBlocksPerTick = readInt(section, "max-blocks-per-tick", 1, fallback.maxBlocksPerTick(), warnings);
+        if (maxBlocksPerTick < minBlocksPerTick) {
+            warnings.accept("max-blocks-per-tick is below min-blocks-per-tick, using " + minBlocksPerTick);
+            maxBlocksPerTick = minBlocksPerTick;
+        }
+
+        RemovalMode removalMode = fallback.removalMode();
+        if (section.contains("removal-mode")) {
+            RemovalMode parsed = RemovalMode.parse(section.getString("removal-mode", ""));
+            if (parsed == null) {
+                warnings.accept("removal-mode: unknown mode '" + section.getString("removal-mode") + "'");
+            } else {
+                removalMode = parsed;
+            }
+        }
+
+        boolean breakParticles = readBoolean(section, "break-particles", fallback.breakParticles(), warnings);
+        double breakSoundVolume = readDouble(section, "break-sound-volume", 0.0, fallback.breakSoundVolume(),
+                warnings);
+        double breakSoundMaxVolume = readDouble(section, "break-sound-max-volume", 0.0,
+                fallback.breakSoundMaxVolume(), warnings);
+        if (breakSoundMaxVolume < breakSoundVolume) {
+            warnings.accept("break-sound-max-volume is below break-sound-volume, using " + breakSoundVolume);
+            breakSoundMaxVolume = breakSoundVolume;
+        }
+
+        DropLocation dropLocation = fallback.dropLocation();
+        if (section.contains("drop-location")) {
+            DropLocation parsed = DropLocation.parse(section.getString("drop-location", ""));
+            if (parsed == null) {
+                warnings.accept("drop-location: unknown location '" + section.getString("drop-location") + "'");
+            } else {
+                dropLocation = parsed;
+            }
+        }
+        int dropDelayTicks = readInt(section, "drop-delay-ticks", 0, fallback.dropDelayTicks(), warnings);
+        boolean collect = readBoolean(section, "collect", fallback.collect(), warnings);
+
+        ExperienceMode experience = fallback.experience();
+        if (section.contains("experience")) {
+            ExperienceMode parsed = ExperienceMode.parse(section.getString("experience", ""));
+            if (parsed == null) {
+                warnings.accept("experience: unknown mode '" + section.getString("experience") + "'");
+            } else {
+                experience = parsed;
+            }
+        }
+
+        return new ToolSettings(enabled, maxBlocks, hasCooldown, cooldownSeconds, shape, materials,
+                animationMode, animationDelayTicks, minBlocksPerTick, maxBlocksPerTick, removalMode, breakParticles,
+                breakSoundVolume, breakSoundMaxVolume, dropLocation, dropDelayTicks, collect, experience);
+    }
+
+    private static boolean readBoolean(ConfigurationSection section, String key, boolean fallback,
+            Consumer<String> warnings) {
+        if (!section.contains(key)) {
+            return fallback;
+        }
+        if (!section.isBoolean(key)) {
+            warnings.accept(key + ": expected true/false, got '" + section.get(key) + "'");
+            return fallback;
+        }
+        return section.getBoolean(key);
+    }
+
+    private static int readInt(ConfigurationSection section, String key, int min, int fallback,
+            Consumer<String> warnings) {
+        if (!section.contains(key)) {
+            return fallback;
+        }
+        if (!section.isInt(key) || section.getInt(key) < min) {
+            warnings.accept(key + ": expected a whole number >= " + min + ", got '" + section.get(key) + "'");
+            return fallback;
+        }
+        return section.getInt(key);
+    }
+
+    private static double readDouble(ConfigurationSection section, String key, double min, double fallback,
+            Consumer<String> warnings) {
+        if (!section.contains(key)) {
+            return fallback;
+        }
+        if (!(section.get(key) instanceof Number number) || number.doubleValue() < min) {
+            warnings.accept(key + ": expected a number >= " + min + ", got '" + section.get(key) + "'");
+            return fallback;
+        }
+        return number.doubleValue();
+    }
+}
@@ -1,22 +1,43 @@
 package com.vallerinsmp.vitems.util;
 
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.LocalPlayer;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
 import com.sk89q.worldguard.protection.flags.Flags;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * WorldGuard integration hook
  * Gracefully handles WorldGuard soft dependency
+ * Keeps a per-world index of chunk sections touched by player-created regions
+ * so unprotected blocks are answered without a region query. Indexes are
+ * built on first use and rebuilt when the world's region count changes or
+ * RegionChangeListener sees a region command.
  */
 public class WorldGuardHook {
 
     private static boolean worldGuardEnabled = false;
 
+    // Section indexes per world (main thread only)
+    private static final Map<UUID, ProtectedSectionIndex> sectionIndexes = new HashMap<>();
+    private static long indexHits = 0;
+    private static long indexMisses = 0;
+
     /**
      * Initialize WorldGuard hook
      */
@@ -27,6 +48,10 @@ public class WorldGuardHook {
         } catch (ClassNotFoundException e) {
             worldGuardEnabled = false;
         }
+
+        sectionIndexes.clear();
+        indexHits = 0;
+        indexMisses = 0;
     }
 
     /**
@@ -47,6 +72,14 @@ public class WorldGuardHook {
         }
 
         try {
+            // Fast path: no protected region touches this chunk section
+            ProtectedSectionIndex index = getIndex(block.getWorld());
+            if (!index.isProtected(block.getX(), block.getY(), block.getZ())) {
+                indexHits++;
+                return true;
+            }
+            indexMisses++;
+
             Location loc = block.getLocation();
             com.sk89q.worldedit.util.Location wgLoc = BukkitAdapter.adapt(loc);
 
@@ -82,4 +115,172 @@ public class WorldGuardHook {
         }
     }
 
+    /**
+     * Check which blocks of a plan the player can break
+     *
+     * @return bitmap of allowed plan indexes
+     */
+    public static BitSet canBreakAll(Player player, World world, BlockPlan plan) {
+        return canBreakAll(player, world, plan.positions(), plan.size());
+    }
+
+    /**
+     * Check which packed positions the player can break, in one pass
+     * Regions are looked up once for the bounding box of all positions; if no
+     * player-created region intersects it, no per-block check is done at all.
+     * Otherwise only positions inside an intersecting region are queried,
+     * sharing one RegionQuery and LocalPlayer.
+     *
+     * @return bitmap of allowed indexes (0 until count)
+     */
+    public static BitSet canBreakAll(Player player, World world, long[] positions, int count) {
+        BitSet allowed = new BitSet(count);
+        allowed.set(0, count);
+        if (!worldGuardEnabled || count == 0) {
+            return allowed;
+        }
+
+        try {
+            // Fast path: no position lies in a protected chunk section
+            ProtectedSectionIndex index = getIndex(world);
+            boolean anyProtected = false;
+            for (int i = 0; i < count; i++) {
+                long packed = positions[i];
+                if (index.isProtected(PackedPos.x(packed), PackedPos.y(packed), PackedPos.z(packed))) {
+                    anyProtected = true;
+                    break;
+                }
+            }
+            if (!anyProtected) {
+                indexHits++;
+                return allowed;
+            }
+            indexMisses++;
+
+            var regionContainer = WorldGuard.getInstance().getPlatform().getRegionContainer();
+            var weWorld = BukkitAdapter.adapt(world);
+            var regionManager = regionContainer.get(weWorld);
+
+            if (regionManager == null) {
+                return allowed; // No regions in this world
+            }
+
+            // Bounding box of every position
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+            for (int i = 0; i < count; i++) {
+                long packed = positions[i];
+                int x = PackedPos.x(packed);
+                int y = PackedPos.y(packed);
+                int z = PackedPos.z(packed);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+            }
+
+            ProtectedCuboidRegion bounds = new ProtectedCuboidRegion("vitems_batch",
+                    BlockVector3.at(minX, minY, minZ), BlockVector3.at(maxX, maxY, maxZ));
+
+            // Player-created regions intersecting the box (excluding __global__)
+            List<ProtectedRegion> regions = new ArrayList<>();
+            for (var region : regionManager.getApplicableRegions(bounds)) {
+                if (!region.getId().equals("__global__")) {
+                    regions.add(region);
+                }
+            }
+
+            if (regions.isEmpty()) {
+                return allowed; // No player-created regions, allow all
+            }
+
+            // Query only positions covered by a region, reusing query and player
+            RegionQuery query = regionContainer.createQuery();
+            LocalPlayer localPlayer = WorldGuardPlugin.inst().wrapPlayer(player);
+            for (int i = 0; i < count; i++) {
+                long packed = positions[i];
+                int x = PackedPos.x(packed);
+                int y = PackedPos.y(packed);
+                int z = PackedPos.z(packed);
+
+                boolean covered = false;
+                for (ProtectedRegion region : regions) {
+                    if (region.contains(x, y, z)) {
+                        covered = true;
+                        break;
+                    }
+                }
+
+                if (covered && !query.testState(new com.sk89q.worldedit.util.Location(weWorld, x, y, z),
+                        localPlayer, Flags.BLOCK_BREAK)) {
+                    allowed.clear(i);
+                }
+            }
+            return allowed;
+        } catch (Exception e) {
+            // If any error occurs, default to allowing the action
+            allowed.set(0, count);
+            return allowed;
+        }
+    }
+
+    /**
+     * Drop every section index, they are rebuilt on the next lookup
+     * Called when regions may have changed in a way the region count does not
+     * show (redefined or reloaded regions)
+     */
+    public static void invalidateIndexes() {
+        sectionIndexes.clear();
+    }
+
+    /**
+     * Drop the section index of a world
+     */
+    public static void invalidateIndex(World world) {
+        sectionIndexes.remove(world.getUID());
+    }
+
+    /**
+     * Number of checks answered by the section index alone
+     */
+    public static long getIndexHits() {
+        return indexHits;
+    }
+
+    /**
+     * Number of checks that needed a full region query
+     */
+    public static long getIndexMisses() {
+        return indexMisses;
+    }
+
+    /**
+     * Get the section index for a world, rebuilding it if missing or if the
+     * world's region manager or region count changed
+     */
+    private static ProtectedSectionIndex getIndex(World world) {
+        var regionManager = WorldGuard.getInstance().getPlatform().getRegionContainer()
+                .get(BukkitAdapter.adapt(world));
+        int regionCount = regionManager == null ? 0 : regionManager.size();
+
+        ProtectedSectionIndex index = sectionIndexes.get(world.getUID());
+        if (index == null || !index.isBuiltFrom(regionManager, regionCount)) {
+            index = new ProtectedSectionIndex(regionManager, regionCount);
+            if (regionManager != null) {
+                for (ProtectedRegion region : regionManager.getRegions().values()) {
+                    if (region.getId().equals("__global__")) {
+                        continue;
+                    }
+                    BlockVector3 min = region.getMinimumPoint();
+                    BlockVector3 max = region.getMaximumPoint();
+                    index.addRegion(min.getBlockX(), min.getBlockY(), min.getBlockZ(),
+                            max.getBlockX(), max.getBlockY(), max.getBlockZ());
+                }
+            }
+            sectionIndexes.put(world.getUID(), index);
+        }
+        return index;
+    }
 }
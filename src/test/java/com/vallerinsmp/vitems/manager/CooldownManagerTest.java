@@ -0,0 +1,153 @@
+package com.vallerinsmp.vitems.manager;
+
+import com.vallerinsmp.vitems.util.ItemType;
+import net.kyori.adventure.text.Component;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CooldownManagerTest {
+
+    private ServerMock server;
+    private InMemoryStore store;
+    private CooldownManager manager;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        store = new InMemoryStore();
+        manager = new CooldownManager(store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void writesNewCooldownsThroughToTheStore() {
+        PlayerMock player = server.addPlayer();
+        long before = System.currentTimeMillis();
+
+        manager.setCooldown(player, ItemType.VEINMINER, 5.0);
+
+        assertTrue(manager.hasCooldown(player, ItemType.VEINMINER));
+        assertFalse(manager.hasCooldown(player, ItemType.TREE_CAPITATOR));
+        long[] saved = store.records.get(player.getUniqueId());
+        assertNotNull(saved);
+        long expiresAt = saved[ItemType.VEINMINER.ordinal()];
+        assertTrue(expiresAt >= before + 4_900 && expiresAt <= System.currentTimeMillis() + 5_100);
+    }
+
+    @Test
+    void mergesStoredCooldownsOnJoin() {
+        UUID playerId = UUID.randomUUID();
+        store.put(playerId, ItemType.TREE_CAPITATOR, System.currentTimeMillis() + 10_000);
+
+        manager.onPreLogin(preLogin(playerId));
+        PlayerMock player = join(playerId);
+
+        assertTrue(manager.hasCooldown(player, ItemType.TREE_CAPITATOR));
+        double remaining = manager.getRemainingCooldown(player, ItemType.TREE_CAPITATOR);
+        assertTrue(remaining > 9.0 && remaining <= 10.0, "remaining " + remaining);
+    }
+
+    @Test
+    void ignoresExpiredStoredCooldowns() {
+        UUID playerId = UUID.randomUUID();
+        store.put(playerId, ItemType.VEINMINER, System.currentTimeMillis() - 1_000);
+
+        manager.onPreLogin(preLogin(playerId));
+        PlayerMock player = join(playerId);
+
+        assertFalse(manager.hasCooldown(player, ItemType.VEINMINER));
+    }
+
+    @Test
+    void dropsPreloadedCooldownsOfRefusedLogins() {
+        UUID playerId = UUID.randomUUID();
+        store.put(playerId, ItemType.VEINMINER, System.currentTimeMillis() + 10_000);
+        manager.onPreLogin(preLogin(playerId));
+
+        PlayerMock player = new PlayerMock(server, "Refused", playerId);
+        PlayerLoginEvent login = new PlayerLoginEvent(player, "localhost", InetAddress.getLoopbackAddress());
+        login.disallow(PlayerLoginEvent.Result.KICK_WHITELIST, Component.text("Not whitelisted"));
+        manager.onLogin(login);
+
+        // A later join must not pick up the stale preload
+        store.records.clear();
+        server.addPlayer(player);
+        manager.onJoin(new PlayerJoinEvent(player, Component.empty()));
+        assertFalse(manager.hasCooldown(player, ItemType.VEINMINER));
+    }
+
+    @Test
+    void exportsAndRestoresWallClockExpiries() {
+        PlayerMock player = server.addPlayer();
+        manager.setCooldown(player, ItemType.PICKAXE_3X3, 30.0);
+
+        Map<UUID, long[]> active = manager.exportActive();
+        long expiresAt = active.get(player.getUniqueId())[ItemType.PICKAXE_3X3.ordinal()];
+
+        CooldownManager restored = new CooldownManager(new InMemoryStore());
+        assertTrue(restored.restore(player.getUniqueId(), ItemType.PICKAXE_3X3.ordinal(), expiresAt));
+        assertFalse(restored.restore(player.getUniqueId(), ItemType.values().length, expiresAt));
+        assertTrue(restored.hasCooldown(player, ItemType.PICKAXE_3X3));
+        assertEquals(30.0, restored.getRemainingCooldown(player, ItemType.PICKAXE_3X3), 0.5);
+    }
+
+    private static AsyncPlayerPreLoginEvent preLogin(UUID playerId) {
+        return new AsyncPlayerPreLoginEvent("Player", InetAddress.getLoopbackAddress(), playerId);
+    }
+
+    private PlayerMock join(UUID playerId) {
+        PlayerMock player = new PlayerMock(server, "Player", playerId);
+        server.addPlayer(player);
+        manager.onJoin(new PlayerJoinEvent(player, Component.empty()));
+        return player;
+    }
+
+    /**
+     * Local stand-in for a shared backend, records what the manager hands it
+     */
+    private static final class InMemoryStore implements CooldownStore {
+
+        final Map<UUID, long[]> records = new HashMap<>();
+
+        void put(UUID playerId, ItemType type, long expiresAtMillis) {
+            records.computeIfAbsent(playerId, k -> new long[ItemType.values().length])[type.ordinal()] =
+                    expiresAtMillis;
+        }
+
+        @Override
+        public long[] load(UUID playerId) {
+            long[] expiry = records.get(playerId);
+            return expiry == null ? null : expiry.clone();
+        }
+
+        @Override
+        public void save(UUID playerId, int ordinal, long expiresAtMillis) {
+            records.computeIfAbsent(playerId, k -> new long[ItemType.values().length])[ordinal] = expiresAtMillis;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.vallerinsmp.vitems.manager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SharedFileCooldownStoreTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void rejectsAHeaderWithTooManySlots() throws IOException {
+        Path file = writeHeader(Integer.MAX_VALUE, 4);
+
+        // Fails on the header, before the plugin is needed for its flush task
+        assertThrows(IOException.class, () -> new SharedFileCooldownStore(null, file, 1024, 4, 5));
+    }
+
+    @Test
+    void rejectsAHeaderWithoutTools() throws IOException {
+        Path file = writeHeader(1024, 0);
+
+        assertThrows(IOException.class, () -> new SharedFileCooldownStore(null, file, 1024, 4, 5));
+    }
+
+    @Test
+    void rejectsASlotCountAboveTheLimitForNewFiles() {
+        Path file = folder.resolve("new.dat");
+
+        assertThrows(IOException.class,
+                () -> new SharedFileCooldownStore(null, file, SharedFileCooldownStore.MAX_SLOTS + 1, 4, 5));
+    }
+
+    private Path writeHeader(int slots, int types) throws IOException {
+        Path file = folder.resolve("cooldowns.dat");
+        ByteBuffer header = ByteBuffer.allocate(16).putInt(0x56434431).putInt(0).putInt(slots).putInt(types);
+        Files.write(file, header.array());
+        return file;
+    }
+}
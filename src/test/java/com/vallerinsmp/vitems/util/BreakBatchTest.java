@@ -0,0 +1,158 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The server only sends neighbour and shape updates for removals done with
+ * physics, so these tests record the physics flag of every removal
+ */
+class BreakBatchTest {
+
+    private World world;
+    private Map<Long, Block> blocks;
+    /** Physics flag used to remove each block, by packed position */
+    private Map<Long, Boolean> removals;
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        blocks = new HashMap<>();
+        removals = new HashMap<>();
+        when(world.getBlockAt(anyInt(), anyInt(), anyInt())).thenAnswer(invocation ->
+                block(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    @Test
+    void bulkRemovesSurfaceWithPhysics() {
+        // 3x3x3 cube: only the centre has every neighbour inside the set
+        BreakBatch batch = new BreakBatch(world, RemovalMode.BULK, false);
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                for (int z = 0; z < 3; z++) {
+                    batch.add(block(x, y, z));
+                }
+            }
+        }
+        batch.flush();
+
+        assertEquals(27, removals.size());
+        assertFalse(removals.get(PackedPos.pack(1, 1, 1)));
+        removals.forEach((pos, physics) -> {
+            if (pos != PackedPos.pack(1, 1, 1)) {
+                assertTrue(physics);
+            }
+        });
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void bulkUpdatesGravityBlocksAndFluidsAroundTheSet() {
+        // One-wide vein: sand on top of it or water beside it only react to physics removals
+        BreakBatch batch = new BreakBatch(world, RemovalMode.BULK, false);
+        for (int y = 10; y < 15; y++) {
+            batch.add(block(0, y, 0));
+        }
+        batch.flush();
+
+        // Every block of a one-wide vein borders something outside it
+        for (int y = 10; y < 15; y++) {
+            assertTrue(removals.get(PackedPos.pack(0, y, 0)), "y=" + y);
+        }
+        // Nothing outside the set is touched directly
+        assertNull(removals.get(PackedPos.pack(0, 15, 0)));
+        assertNull(removals.get(PackedPos.pack(1, 12, 0)));
+    }
+
+    @Test
+    void bulkSkipsPhysicsOnlyForTheInterior() {
+        // 5x5x5 cube: the interior is the 3x3x3 core
+        BreakBatch batch = new BreakBatch(world, RemovalMode.BULK, false);
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 5; y++) {
+                for (int z = 0; z < 5; z++) {
+                    batch.add(block(x, y, z));
+                }
+            }
+        }
+        batch.flush();
+
+        int silent = 0;
+        for (boolean physics : removals.values()) {
+            if (!physics) {
+                silent++;
+            }
+        }
+        assertEquals(27, silent);
+        assertTrue(removals.get(PackedPos.pack(0, 2, 2)));
+        assertFalse(removals.get(PackedPos.pack(2, 2, 2)));
+    }
+
+    @Test
+    void bulkPlaneHasNoInterior() {
+        // A 3x3 area swing: every block borders the blocks above and below the plane
+        BreakBatch batch = new BreakBatch(world, RemovalMode.BULK, false);
+        for (int x = 0; x < 3; x++) {
+            for (int z = 0; z < 3; z++) {
+                batch.add(block(x, 64, z));
+            }
+        }
+        batch.flush();
+
+        assertEquals(9, removals.size());
+        assertTrue(removals.values().stream().allMatch(Boolean::booleanValue));
+    }
+
+    @Test
+    void vanillaRemovesEveryBlockWithPhysics() {
+        BreakBatch batch = new BreakBatch(world, RemovalMode.VANILLA, false);
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                for (int z = 0; z < 3; z++) {
+                    batch.add(block(x, y, z));
+                }
+            }
+        }
+        batch.flush();
+
+        assertEquals(27, removals.size());
+        assertTrue(removals.values().stream().allMatch(Boolean::booleanValue));
+    }
+
+    private Block block(int x, int y, int z) {
+        long pos = PackedPos.pack(x, y, z);
+        return blocks.computeIfAbsent(pos, key -> {
+            Block block = mock(Block.class);
+            when(block.getX()).thenReturn(x);
+            when(block.getY()).thenReturn(y);
+            when(block.getZ()).thenReturn(z);
+            when(block.getWorld()).thenReturn(world);
+            doAnswer(invocation -> {
+                removals.put(key, true);
+                return null;
+            }).when(block).setType(any(Material.class));
+            doAnswer(invocation -> {
+                removals.put(key, invocation.getArgument(1));
+                return null;
+            }).when(block).setType(any(Material.class), anyBoolean());
+            return block;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.vallerinsmp.vitems.util;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Both removal modes must leave the world in the same state
+ */
+class BreakBatchWorldTest {
+
+    private static final int SIZE = 20;
+
+    private ServerMock server;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void bulkAndVanillaLeaveTheSameWorld() {
+        World vanilla = server.addSimpleWorld("vanilla");
+        World bulk = server.addSimpleWorld("bulk");
+        fill(vanilla);
+        fill(bulk);
+
+        flush(vanilla, RemovalMode.VANILLA);
+        flush(bulk, RemovalMode.BULK);
+
+        assertEquals(snapshot(vanilla), snapshot(bulk));
+        assertEquals(Material.AIR, bulk.getBlockAt(5, 5, 5).getType());
+        assertEquals(Material.STONE, bulk.getBlockAt(0, 0, 0).getType());
+    }
+
+    @Test
+    void flushCrossingSectionsRemovesEveryBlock() {
+        World world = server.addSimpleWorld("sections");
+        fill(world);
+
+        flush(world, RemovalMode.BULK);
+
+        for (int x = 2; x < SIZE - 2; x++) {
+            for (int y = 2; y < SIZE - 2; y++) {
+                for (int z = 2; z < SIZE - 2; z++) {
+                    assertEquals(Material.AIR, world.getBlockAt(x, y, z).getType());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stone cube with a layer of mixed blocks so the removal borders more than stone
+     */
+    private static void fill(World world) {
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int z = 0; z < SIZE; z++) {
+                    world.getBlockAt(x, y, z).setType(Material.STONE, false);
+                }
+            }
+        }
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                world.getBlockAt(x, SIZE - 2, z).setType((x + z) % 2 == 0 ? Material.SAND : Material.OAK_FENCE, false);
+            }
+        }
+    }
+
+    /**
+     * Remove the core of the cube (16x16x16, spanning several chunk sections) in one batch
+     */
+    private static void flush(World world, RemovalMode mode) {
+        BreakBatch batch = new BreakBatch(world, mode, false);
+        for (int x = 2; x < SIZE - 2; x++) {
+            for (int y = 2; y < SIZE - 2; y++) {
+                for (int z = 2; z < SIZE - 2; z++) {
+                    batch.add(world.getBlockAt(x, y, z));
+                }
+            }
+        }
+        batch.flush();
+    }
+
+    private static Map<Long, Material> snapshot(World world) {
+        Map<Long, Material> types = new HashMap<>();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int z = 0; z < SIZE; z++) {
+                    types.put(PackedPos.pack(x, y, z), world.getBlockAt(x, y, z).getType());
+                }
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,114 @@
+package com.vallerinsmp.vitems.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Per-message cost of rendering a compiled template versus replacing the
+ * placeholders in the raw string and parsing it on every send
+ *
+ * Timing only, so it is skipped unless asked for:
+ * mvn test -Dtest=MessageTemplateBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MessageTemplateBenchmark {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("%[a-zA-Z0-9_-]+%");
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    // Keeps the JIT from dropping the rendered components
+    private static int sink;
+
+    @Test
+    void compareWithReplaceThenParse() throws Exception {
+        YamlConfiguration messages;
+        try (Reader reader = new InputStreamReader(
+                MessageTemplateBenchmark.class.getResourceAsStream("/messages.yml"), StandardCharsets.UTF_8)) {
+            messages = YamlConfiguration.loadConfiguration(reader);
+        }
+
+        MiniMessage parser = MiniMessage.miniMessage();
+        MiniMessage templateParser = MiniMessage.builder().postProcessor(UnaryOperator.identity()).build();
+        String prefix = messages.getString("general.prefix", "");
+
+        List<String> sources = new ArrayList<>();
+        List<MessageTemplate> templates = new ArrayList<>();
+        List<Map<String, String>> strings = new ArrayList<>();
+        List<Map<String, Component>> components = new ArrayList<>();
+        for (String path : messages.getKeys(true)) {
+            if (!messages.isString(path)) {
+                continue;
+            }
+            String source = messages.getString(path).replace("%prefix%", prefix);
+            Map<String, String> values = new LinkedHashMap<>();
+            Map<String, Component> parts = new LinkedHashMap<>();
+            Matcher matcher = PLACEHOLDER.matcher(source);
+            while (matcher.find()) {
+                String value = "value" + values.size();
+                if (values.putIfAbsent(matcher.group(), value) == null) {
+                    parts.put(matcher.group(), Component.text(value));
+                }
+            }
+            sources.add(source);
+            templates.add(MessageTemplate.compile(templateParser, source));
+            strings.add(values);
+            components.add(parts);
+        }
+        assertFalse(sources.isEmpty());
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            replaceThenParse(parser, sources, strings);
+            renderTemplates(templates, components);
+        }
+
+        long parseNanos = 0;
+        long renderNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            replaceThenParse(parser, sources, strings);
+            long middle = System.nanoTime();
+            renderTemplates(templates, components);
+            parseNanos += middle - start;
+            renderNanos += System.nanoTime() - middle;
+        }
+
+        long renders = (long) MEASURED_ROUNDS * sources.size();
+        System.out.printf("MessageTemplate benchmark, %d messages x %d rounds (sink %d)%n",
+                sources.size(), MEASURED_ROUNDS, sink);
+        System.out.printf("  replace then parse: %,d ns/message%n", parseNanos / renders);
+        System.out.printf("  compiled template:  %,d ns/message%n", renderNanos / renders);
+    }
+
+    private static void replaceThenParse(MiniMessage parser, List<String> sources, List<Map<String, String>> values) {
+        for (int i = 0; i < sources.size(); i++) {
+            String text = sources.get(i);
+            for (Map.Entry<String, String> entry : values.get(i).entrySet()) {
+                text = text.replace(entry.getKey(), entry.getValue());
+            }
+            sink += parser.deserialize(text).children().size();
+        }
+    }
+
+    private static void renderTemplates(List<MessageTemplate> templates, List<Map<String, Component>> values) {
+        for (int i = 0; i < templates.size(); i++) {
+            sink += templates.get(i).render(values.get(i)).children().size();
+        }
+    }
+}
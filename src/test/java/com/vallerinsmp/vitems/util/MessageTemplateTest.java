@@ -0,0 +1,97 @@
+package com.vallerinsmp.vitems.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageTemplateTest {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("%[a-zA-Z0-9_-]+%");
+    private static final MiniMessage TEMPLATE_PARSER = MiniMessage.builder()
+            .postProcessor(UnaryOperator.identity()).build();
+    private static final PlainTextComponentSerializer PLAIN = PlainTextComponentSerializer.plainText();
+
+    private static YamlConfiguration messages;
+
+    @BeforeAll
+    static void loadMessages() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                MessageTemplateTest.class.getResourceAsStream("/messages.yml"), StandardCharsets.UTF_8)) {
+            messages = YamlConfiguration.loadConfiguration(reader);
+        }
+    }
+
+    @Test
+    void rendersEveryBundledMessageLikeReplaceThenParse() {
+        String prefix = messages.getString("general.prefix", "");
+        for (String path : messages.getKeys(true)) {
+            if (!messages.isString(path)) {
+                continue;
+            }
+
+            String source = messages.getString(path).replace("%prefix%", prefix);
+            Map<String, String> values = new LinkedHashMap<>();
+            Matcher matcher = PLACEHOLDER.matcher(source);
+            while (matcher.find()) {
+                values.putIfAbsent(matcher.group(), "value" + values.size());
+            }
+
+            Map<String, Component> components = new LinkedHashMap<>();
+            String expected = source;
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                components.put(entry.getKey(), Component.text(entry.getValue()));
+                expected = expected.replace(entry.getKey(), entry.getValue());
+            }
+
+            String rendered = PLAIN.serialize(MessageTemplate.compile(TEMPLATE_PARSER, source).render(components));
+            assertEquals(PLAIN.serialize(MiniMessage.miniMessage().deserialize(expected)), rendered, path);
+            assertFalse(rendered.indexOf('\uE000') >= 0, path + " leaked a placeholder marker");
+        }
+    }
+
+    @Test
+    void keepsTextFollowingAPlaceholder() {
+        MessageTemplate template = MessageTemplate.compile(TEMPLATE_PARSER,
+                "<gray>Wait <color:#C77DFF>%time%s <gray>before using it.");
+
+        Component rendered = template.render(Map.of("%time%", Component.text("2.5")));
+
+        assertEquals("Wait 2.5s before using it.", PLAIN.serialize(rendered));
+    }
+
+    @Test
+    void keepsUnknownPlaceholdersVisible() {
+        MessageTemplate template = MessageTemplate.compile(TEMPLATE_PARSER, "<gray>Gave %item% to %player%.");
+
+        Component rendered = template.render(Map.of("%item%", Component.text("veinminer")));
+
+        assertEquals("Gave veinminer to %player%.", PLAIN.serialize(rendered));
+    }
+
+    @Test
+    void fallsBackForPlaceholdersInsideTagArguments() {
+        MessageTemplate template = MessageTemplate.compile(TEMPLATE_PARSER,
+                "<click:run_command:'/vitems give %player% veinminer'>Give %player%</click>");
+
+        Component rendered = template.render(Map.of("%player%", Component.text("Steve")));
+
+        assertEquals("Give Steve", PLAIN.serialize(rendered));
+        assertTrue(MiniMessage.miniMessage().serialize(rendered).contains("/vitems give Steve veinminer"));
+    }
+}